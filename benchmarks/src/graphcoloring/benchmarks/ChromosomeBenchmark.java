@@ -0,0 +1,69 @@
+package graphcoloring.benchmarks;
+
+import graphcoloring.Chromosome;
+import graphcoloring.Crossover;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operations of the genetic algorithm on single chromosomes
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChromosomeBenchmark {
+
+    private static final double MUTATION_PERCENTAGE = 0.2;
+    private static final double MUTATION_PROBABILITY = 0.1;
+
+    private SplittableRandom random;
+    private Chromosome first;
+    private Chromosome second;
+
+    @Setup(Level.Iteration)
+    public void setUp(GraphState graph) {
+        random = new SplittableRandom(7);
+        first = new Chromosome(graph.topology, graph.colors, random);
+        second = new Chromosome(graph.topology, graph.colors, random);
+    }
+
+    @Benchmark
+    public int calculateFitness() {
+        first.calculateFitness();
+        return first.fitness();
+    }
+
+    @Benchmark
+    public Chromosome crossover() {
+        return first.crossover(second, random);
+    }
+
+    @Benchmark
+    public Chromosome partitionCrossover() {
+        return Crossover.GPX.cross(first, second, random);
+    }
+
+    /**
+     * Mutates the same chromosome again and again, which costs the same as mutating a fresh one
+     */
+    @Benchmark
+    public int mutate() {
+        first.mutate(MUTATION_PERCENTAGE, MUTATION_PROBABILITY, random);
+        return first.fitness();
+    }
+}
@@ -0,0 +1,67 @@
+package graphcoloring.benchmarks;
+
+import graphcoloring.DSatur;
+import graphcoloring.Graph;
+import graphcoloring.GreedyColoring;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation and the constructive coloring algorithms
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColoringBenchmark {
+
+    private int[] validColoring;
+    private int[] coloring;
+
+    @Setup
+    public void setUp(GraphState graph) {
+        validColoring = DSatur.color(graph.topology);
+        coloring = new int[graph.topology.size()];
+    }
+
+    @Benchmark
+    public boolean validate(GraphState graph) {
+        return Graph.validate(graph.topology, validColoring);
+    }
+
+    /**
+     * Greedy coloring without limiting the amount of colors, so all vertices are colored in each invocation
+     */
+    @Benchmark
+    public boolean greedy(GraphState graph, OrderingState ordering) {
+        return GreedyColoring.color(graph.topology, ordering.ordering, Integer.MAX_VALUE, coloring);
+    }
+
+    @Benchmark
+    public int[] dsatur(GraphState graph) {
+        return DSatur.color(graph.topology);
+    }
+
+    /**
+     * Ordering of the greedy coloring, in its own state so only the greedy benchmark is executed for each ordering
+     */
+    @State(Scope.Benchmark)
+    public static class OrderingState {
+
+        @Param({"BFS", "LARGEST_FIRST", "SMALLEST_LAST"})
+        public GreedyColoring.Ordering ordering;
+    }
+}
@@ -0,0 +1,61 @@
+package graphcoloring.benchmarks;
+
+import graphcoloring.DSatur;
+import graphcoloring.DynamicGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of repairing the coloring of a dynamic graph after inserting random edges, which should not depend on the amount of vertices
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DynamicGraphBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+
+    private final SplittableRandom random = new SplittableRandom(7);
+    private final DynamicGraph.Batch insertions = new DynamicGraph.Batch();
+    private final DynamicGraph.Batch removals = new DynamicGraph.Batch();
+    private DynamicGraph dynamicGraph;
+
+    @Setup
+    public void setUp(GraphState graph) {
+        dynamicGraph = new DynamicGraph(graph.topology, DSatur.color(graph.topology));
+    }
+
+    /**
+     * Inserts a batch of new edges and removes them afterwards, so the graph does not become denser over the benchmark
+     */
+    @Benchmark
+    public DynamicGraph.Repair insertEdges(GraphState graph) {
+        insertions.clear();
+        removals.clear();
+        for (var i = 0; i < BATCH_SIZE; i++) {
+            var first = graph.topology.id(random.nextInt(graph.vertices));
+            var second = graph.topology.id(random.nextInt(graph.vertices));
+            if (first != second && !dynamicGraph.adjacent(first, second)) {
+                insertions.addEdge(first, second);
+                removals.removeEdge(first, second);
+            }
+        }
+        var repair = dynamicGraph.apply(insertions);
+        dynamicGraph.apply(removals);
+        return repair;
+    }
+}
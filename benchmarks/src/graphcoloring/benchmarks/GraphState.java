@@ -0,0 +1,37 @@
+package graphcoloring.benchmarks;
+
+import graphcoloring.DSatur;
+import graphcoloring.Graph;
+import graphcoloring.GraphColoring;
+import graphcoloring.Topology;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Random graph shared by all threads of a benchmark, for each combination of size and density
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000"})
+    public int vertices;
+
+    @Param({"0.005", "0.05"})
+    public double density;
+
+    public Topology topology;
+    public Graph graph;
+    public int colors; // amount of colors DSatur needs, so the genetic algorithm works with a realistic palette
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        topology = SyntheticGraphs.random(vertices, density, SEED);
+        graph = new Graph(topology);
+        colors = GraphColoring.countColors(DSatur.color(topology));
+    }
+}
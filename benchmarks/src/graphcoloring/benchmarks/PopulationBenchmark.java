@@ -0,0 +1,82 @@
+package graphcoloring.benchmarks;
+
+import graphcoloring.Chromosome;
+import graphcoloring.Population;
+import graphcoloring.PopulationBuffers;
+import graphcoloring.Workers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selection of the successor generation from a population and creation of whole generations
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PopulationBenchmark {
+
+    private static final double SELECTION_PERCENTAGE = 0.5;
+    private static final double TOURNAMENT_SIZE_PERCENTAGE = 0.2;
+    private static final double MUTATION_PERCENTAGE = 0.2;
+    private static final double MUTATION_PROBABILITY = 0.1;
+
+    @Param({"100", "1000"})
+    public int populationSize;
+
+    private SplittableRandom random;
+    private Workers workers;
+    private Population population;
+    private PopulationBuffers buffers;
+
+    @Setup(Level.Trial)
+    public void setUp(GraphState graph) {
+        random = new SplittableRandom(7);
+        workers = new Workers(1);
+        population = new Population(graph.graph, populationSize, graph.colors, random, workers);
+        // selects as many chromosomes as the population contains, so every generation has the same size
+        var args = Map.<String, Object>of(
+                "tournamentSelectionPercentage", 1.0,
+                "tournamentSizePercentage", TOURNAMENT_SIZE_PERCENTAGE,
+                "mutationPercentage", MUTATION_PERCENTAGE,
+                "mutationProbability", MUTATION_PROBABILITY);
+        buffers = new PopulationBuffers(new Population(graph.graph, populationSize, graph.colors, random, workers), args, workers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workers.close();
+    }
+
+    @Benchmark
+    public List<Chromosome> tournamentSelection() {
+        return population.tournamentSelection(SELECTION_PERCENTAGE, TOURNAMENT_SIZE_PERCENTAGE, random, workers);
+    }
+
+    /**
+     * Steady state of the genetic algorithm, which should not allocate anything (-prof gc)
+     */
+    @Benchmark
+    public Chromosome generation() {
+        buffers.advance(random);
+        return buffers.best();
+    }
+}
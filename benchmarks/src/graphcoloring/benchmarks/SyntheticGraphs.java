@@ -0,0 +1,72 @@
+package graphcoloring.benchmarks;
+
+import graphcoloring.Topology;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Generates random graphs for the benchmarks
+ */
+public final class SyntheticGraphs {
+
+    private SyntheticGraphs() {
+    }
+
+    /**
+     * Generates a random graph in which each pair of vertices is connected with the given probability (Erdos-Renyi).<br>
+     * Instead of drawing a random number for each pair, the gap to the next connected pair is drawn from a geometric distribution,
+     * so the generation takes time proportional to the amount of edges
+     *
+     * @param vertices amount of vertices, their IDs are 1 to vertices
+     * @param density  probability of each edge, between 0 (exclusive) and 1 (exclusive)
+     * @param seed     seed of the random number generator, the same seed always generates the same graph
+     * @return topology of the graph
+     */
+    public static Topology random(int vertices, double density, long seed) {
+        var random = new SplittableRandom(seed);
+        var logComplement = Math.log(1 - density);
+        var firsts = new int[1024];
+        var seconds = new int[1024];
+        var edges = 0;
+        var degrees = new int[vertices];
+        for (var first = 0; first < vertices; first++) {
+            var second = first + 1 + skip(random, logComplement);
+            while (second < vertices) {
+                if (edges == firsts.length) {
+                    firsts = Arrays.copyOf(firsts, edges * 2);
+                    seconds = Arrays.copyOf(seconds, edges * 2);
+                }
+                firsts[edges] = first;
+                seconds[edges++] = second;
+                degrees[first]++;
+                degrees[second]++;
+                second += 1 + skip(random, logComplement);
+            }
+        }
+
+        var offsets = new int[vertices + 1];
+        for (var vertex = 0; vertex < vertices; vertex++) {
+            offsets[vertex + 1] = offsets[vertex] + degrees[vertex];
+        }
+        var neighbours = new int[offsets[vertices]];
+        var fill = Arrays.copyOf(offsets, vertices);
+        for (var i = 0; i < edges; i++) {
+            neighbours[fill[firsts[i]]++] = seconds[i];
+            neighbours[fill[seconds[i]]++] = firsts[i];
+        }
+        var ids = new int[vertices];
+        for (var vertex = 0; vertex < vertices; vertex++) {
+            ids[vertex] = vertex + 1;
+        }
+        return new Topology(offsets, neighbours, ids);
+    }
+
+    /**
+     * @return amount of pairs which are not connected before the next connected pair
+     */
+    private static int skip(SplittableRandom random, double logComplement) {
+        var skip = Math.floor(Math.log(1 - random.nextDouble()) / logComplement);
+        return skip >= Integer.MAX_VALUE ? Integer.MAX_VALUE - 1 : (int) skip;
+    }
+}
@@ -0,0 +1,49 @@
+package graphcoloring.benchmarks;
+
+import graphcoloring.Chromosome;
+import graphcoloring.WarmStart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of a chromosome of the initial population with each seeding strategy, with one color less than DSatur needs, so the seeded
+ * chromosomes have conflicts like in the search for the minimum amount of colors
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WarmStartBenchmark {
+
+    @Param({"RANDOM", "GREEDY", "DSATUR", "RLF"})
+    public WarmStart.Strategy strategy;
+
+    private SplittableRandom random;
+    private WarmStart warmStart;
+
+    @Setup(Level.Trial)
+    public void setUp(GraphState graph) {
+        random = new SplittableRandom(7);
+        warmStart = new WarmStart(graph.topology, Math.max(1, graph.colors - 1), strategy);
+    }
+
+    @Benchmark
+    public Chromosome chromosome() {
+        return warmStart.chromosome(random);
+    }
+}
@@ -0,0 +1,99 @@
+package graphcoloring;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Executes independent attempts of an algorithm concurrently on a bounded thread pool and counts how often each result occurred
+ */
+public final class AttemptRunner {
+
+    private AttemptRunner() {
+    }
+
+    /**
+     * Executes the attempt for every index from 0 to attempts - 1. Each attempt must only depend on its index and must not change any state
+     * shared with other attempts
+     *
+     * @param attempts      amount of attempts
+     * @param threads       maximum amount of attempts executed at the same time
+     * @param maximumResult highest result an attempt can return, the lowest one is 0
+     * @param attempt       attempt which receives its index and returns its result
+     * @param onFinished    called after each finished attempt, possibly from several threads at the same time
+     * @return how often each result occurred and how long the attempts took
+     */
+    public static Result run(int attempts, int threads, int maximumResult, IntUnaryOperator attempt, Runnable onFinished) {
+        var histogram = new AtomicIntegerArray(maximumResult + 1);
+        var attemptNanos = new LongAdder();
+        var start = System.nanoTime();
+
+        var executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, attempts)));
+        try {
+            var futures = new Future<?>[attempts];
+            for (var i = 0; i < attempts; i++) {
+                var index = i;
+                futures[i] = executor.submit(() -> {
+                    var attemptStart = System.nanoTime();
+                    var result = attempt.applyAsInt(index);
+                    attemptNanos.add(System.nanoTime() - attemptStart);
+                    histogram.incrementAndGet(result);
+                    onFinished.run();
+                });
+            }
+            for (var future : futures) {
+                future.get(); // waits for every attempt and rethrows the first failure
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The attempts have been interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("An attempt failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var counts = new int[histogram.length()];
+        for (var i = 0; i < counts.length; i++) {
+            counts[i] = histogram.get(i);
+        }
+        return new Result(counts, System.nanoTime() - start, attemptNanos.sum());
+    }
+
+    /**
+     * @param histogram    how often each result occurred, indexed by the result
+     * @param wallNanos    elapsed time from the start of the first to the end of the last attempt
+     * @param attemptNanos sum of the durations of all attempts
+     */
+    public record Result(int[] histogram, long wallNanos, long attemptNanos) {
+
+        public int attempts() {
+            var attempts = 0;
+            for (var count : histogram) {
+                attempts += count;
+            }
+            return attempts;
+        }
+
+        public int count(int result) {
+            return result < histogram.length ? histogram[result] : 0;
+        }
+
+        /**
+         * @return finished attempts per second of elapsed time
+         */
+        public double throughput() {
+            return attempts() / (wallNanos / 1e9);
+        }
+
+        /**
+         * @return average duration of one attempt in milliseconds
+         */
+        public double averageAttemptMillis() {
+            return attempts() == 0 ? 0 : attemptNanos / 1e6 / attempts();
+        }
+    }
+}
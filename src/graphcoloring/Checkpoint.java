@@ -0,0 +1,238 @@
+package graphcoloring;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Checkpoints of a run of the genetic algorithm, from which an interrupted run is resumed with exactly the result of an uninterrupted run.<br>
+ * A checkpoint contains the genes and conflicts of each chromosome of the current generation and of the best chromosome, the generation, the
+ * generation of the last improvement and the state of the generator which draws the seeds of the generations ({@link PopulationBuffers}), so
+ * the resumed run continues with the same random numbers. Each run has its own file in the checkpoint directory, named by the hash of the graph
+ * ({@link ResultCache#hash(Topology)}), the amount of colors and the attempt, so the runs of a search for the minimum amount of colors and
+ * parallel attempts do not overwrite each other's checkpoints. A run which has stopped leaves its last state, so it stops again immediately
+ * when it is resumed.<br>
+ * The algorithm only encodes its state into a buffer every few generations, the file is written by a background thread to a temporary file,
+ * which is then renamed atomically, so an interruption never leaves a partially written checkpoint. If the previous checkpoint is still being
+ * written, the generation is skipped instead of waiting for it.<br>
+ * A checkpoint can only be resumed with the same arguments of the algorithm, the conditions of the termination (e.g. the time limit) start again
+ */
+public final class Checkpoint implements AutoCloseable {
+
+    private static final int MAGIC = 0x4b434147; // "GACK" in little-endian
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 7;
+    private static final String FILE_EXTENSION = ".gack";
+
+    private final Path file;
+    private final Topology topology;
+    private final int colors;
+    private final int interval;
+    private final ExecutorService writer;
+    private ByteBuffer buffer; // encoded state, only used by the writer while a write is pending
+    private Future<?> pending; // write of the last checkpoint
+
+    /**
+     * @param directory directory of the checkpoints, which is created if necessary
+     * @param topology  topology of the graph
+     * @param colors    amount of available colors of the run
+     * @param attempt   index of the attempt to which the run belongs
+     * @param interval  amount of generations between two checkpoints
+     * @throws IOException if the directory cannot be created
+     */
+    public Checkpoint(Path directory, Topology topology, int colors, int attempt, int interval) throws IOException {
+        if (interval < 1) {
+            throw new IllegalArgumentException("The checkpoint interval must be at least 1.");
+        }
+        Files.createDirectories(directory);
+        this.file = directory.resolve(ResultCache.hash(topology) + "-" + colors + "-" + attempt + FILE_EXTENSION);
+        this.topology = topology;
+        this.colors = colors;
+        this.interval = interval;
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            var thread = new Thread(task, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param generation      generation of the chromosomes
+     * @param lastImprovement generation in which the best chromosome has been found
+     * @param generatorState  state of the generator which draws the seeds of the next generation ({@link SplitMix64#state()})
+     * @param chromosomes     chromosomes of the generation
+     * @param best            best chromosome of the run
+     */
+    public record State(int generation, int lastImprovement, long generatorState, Population chromosomes, Chromosome best) {
+    }
+
+    /**
+     * @return state of the last checkpoint of the run or null if there is none
+     * @throws UncheckedIOException if the checkpoint cannot be read or does not belong to the graph
+     */
+    public State read() {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("The checkpoint cannot be read.", e);
+        }
+        var buffer = ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN);
+        if (content.length < HEADER_INTS * Integer.BYTES + Long.BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                || buffer.getInt() != topology.size() || buffer.getInt() != colors) {
+            throw damaged();
+        }
+        var size = buffer.getInt();
+        var generation = buffer.getInt();
+        var lastImprovement = buffer.getInt();
+        var generatorState = buffer.getLong();
+        if (size < 1 || buffer.remaining() != (long) (size + 1) * chromosomeBytes()) {
+            throw damaged();
+        }
+        var best = chromosome(buffer);
+        var chromosomes = new ArrayList<Chromosome>(size);
+        for (var i = 0; i < size; i++) {
+            chromosomes.add(chromosome(buffer));
+        }
+        return new State(generation, lastImprovement, generatorState, new Population(chromosomes), best);
+    }
+
+    /**
+     * @return chromosome with the next genes of the buffer, whose recalculated conflicts must match the stored ones
+     */
+    private Chromosome chromosome(ByteBuffer buffer) {
+        var conflicts = buffer.getInt();
+        var genes = new short[topology.size()];
+        buffer.asShortBuffer().get(genes);
+        buffer.position(buffer.position() + genes.length * Short.BYTES);
+        for (var gene : genes) {
+            if (gene < 0 || gene >= colors) {
+                throw damaged();
+            }
+        }
+        var chromosome = Chromosome.of(topology, colors, genes);
+        if (chromosome.conflicts() != conflicts) {
+            throw damaged();
+        }
+        return chromosome;
+    }
+
+    private UncheckedIOException damaged() {
+        return new UncheckedIOException(new IOException("The checkpoint " + file + " does not belong to the graph or is damaged."));
+    }
+
+    private int chromosomeBytes() {
+        return Integer.BYTES + topology.size() * Short.BYTES;
+    }
+
+    /**
+     * Writes a checkpoint in the background if the generation is a multiple of the interval and the previous checkpoint has been written
+     *
+     * @param generation      generation of the buffers
+     * @param lastImprovement generation in which the best chromosome has been found
+     * @param generator       generator which draws the seeds of the next generation
+     * @param buffers         current generation
+     * @param best            best chromosome of the run
+     * @throws UncheckedIOException if the previous checkpoint could not be written
+     */
+    public void save(int generation, int lastImprovement, SplitMix64 generator, PopulationBuffers buffers, Chromosome best) {
+        if (generation % interval != 0 || pending != null && !pending.isDone()) {
+            return;
+        }
+        await();
+        encode(generation, lastImprovement, generator, buffers, best);
+        pending = writer.submit(this::write);
+    }
+
+    /**
+     * Writes the last state of the run and waits until it has been written
+     *
+     * @see #save(int, int, SplitMix64, PopulationBuffers, Chromosome)
+     */
+    public void finish(int generation, int lastImprovement, SplitMix64 generator, PopulationBuffers buffers, Chromosome best) {
+        await();
+        encode(generation, lastImprovement, generator, buffers, best);
+        pending = writer.submit(this::write);
+        await();
+    }
+
+    private void encode(int generation, int lastImprovement, SplitMix64 generator, PopulationBuffers buffers, Chromosome best) {
+        var size = HEADER_INTS * Integer.BYTES + Long.BYTES + (buffers.size() + 1) * chromosomeBytes();
+        if (buffer == null || buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        buffer.clear();
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(topology.size()).putInt(colors).putInt(buffers.size()).putInt(generation)
+                .putInt(lastImprovement).putLong(generator.state());
+        put(best);
+        for (var chromosome : buffers.population().chromosomes()) {
+            put(chromosome);
+        }
+        buffer.flip();
+    }
+
+    private void put(Chromosome chromosome) {
+        buffer.putInt(chromosome.conflicts());
+        buffer.asShortBuffer().put(chromosome.genes());
+        buffer.position(buffer.position() + chromosome.genes().length * Short.BYTES);
+    }
+
+    /**
+     * Writes the buffer to a temporary file first, so no partially written checkpoint replaces the previous one
+     */
+    private Void write() throws IOException {
+        var temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (var channel = Files.newByteChannel(temporary, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return null;
+    }
+
+    /**
+     * Waits for the pending checkpoint
+     *
+     * @throws UncheckedIOException if it could not be written
+     */
+    private void await() {
+        if (pending == null) {
+            return;
+        }
+        try {
+            pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new UncheckedIOException("The checkpoint cannot be written.", e.getCause() instanceof IOException io ? io : new IOException(e.getCause()));
+        } finally {
+            pending = null;
+        }
+    }
+
+    /**
+     * Waits for the pending checkpoint and stops the background thread
+     */
+    @Override
+    public void close() {
+        try {
+            await();
+        } finally {
+            writer.shutdown();
+        }
+    }
+}
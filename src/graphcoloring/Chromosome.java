@@ -0,0 +1,313 @@
+package graphcoloring;
+
+import java.util.Comparator;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+public final class Chromosome {
+
+    public static final int MAX_COLORS = Short.MAX_VALUE; // each gene stores its color index in a short
+
+    private final Topology topology;
+    private final int colors; // amount of available colors, each gene stores the index of its color
+    private final short[] genes; // the gene at position i represents the vertex with the dense index i of the topology
+    private int conflicts; // amount of connections which connect two vertices with the same color, kept up to date with every gene change
+
+    // if the graph is dense, the genes are converted to one bitset per color while they are changed, so adjacencies are checked 64 vertices at a
+    // time, the bitsets are kept in a buffer of the thread instead of the chromosome
+    private final DenseAdjacency dense;
+
+    private Chromosome(Topology topology, int colors, short[] genes, int conflicts) {
+        if (colors > MAX_COLORS) {
+            throw new IllegalArgumentException("A chromosome supports at most " + MAX_COLORS + " colors.");
+        }
+        this.topology = topology;
+        this.colors = colors;
+        this.genes = genes;
+        this.dense = topology.dense();
+        this.conflicts = conflicts;
+    }
+
+    /**
+     * Creates a gene for every vertex of the topology and assigns each of them a random color of the available colors.<br>
+     * The genes only store the index of their color, since the adjacencies are shared by all chromosomes through the topology
+     *
+     * @param topology topology of the graph
+     * @param colors   amount of available colors
+     * @param random   random number generator used only by this chromosome
+     * @throws IllegalArgumentException if there are more than {@link #MAX_COLORS} colors
+     */
+    public Chromosome(Topology topology, int colors, RandomGenerator random) {
+        this(topology, colors, new short[topology.size()], 0);
+        for (var i = 0; i < genes.length; i++) {
+            genes[i] = (short) random.nextInt(colors); // determines a random color for the vertex
+        }
+        calculateFitness();
+    }
+
+    /**
+     * @param topology topology of the graph
+     * @param colors   amount of available colors
+     * @param genes    color index of each vertex below the amount of colors, which is not copied
+     * @return chromosome with the given genes and their fitness
+     */
+    static Chromosome of(Topology topology, int colors, short[] genes) {
+        var chromosome = new Chromosome(topology, colors, genes, 0);
+        chromosome.calculateFitness();
+        return chromosome;
+    }
+
+    /**
+     * Merges this chromosome with another chromosome to one child chromosome.<br>
+     * From the first gene to a specific crossover point, this chromosome's genes are copied and from the crossover point to the last gene,
+     * the second parent's genes are copied.<br>
+     * The child starts as a copy of the parent which contributes the bigger part, including its cached conflicts, and only the genes of the other
+     * part which differ between the parents are changed afterwards, so the child's fitness is derived in O(deg) per differing gene
+     *
+     * @param otherParent second parent
+     * @param random      random number generator used only by this crossover
+     * @return child of the parents
+     */
+    public Chromosome crossover(Chromosome otherParent, RandomGenerator random) {
+        var child = new Chromosome(topology, colors, new short[genes.length], 0);
+        crossover(otherParent, random, child);
+        return child;
+    }
+
+    /**
+     * Writes the child of the crossover into the given chromosome instead of creating a new one
+     *
+     * @param otherParent second parent
+     * @param random      random number generator used only by this crossover
+     * @param child       chromosome of the same graph and amount of colors which receives the child, neither of the parents
+     * @see #crossover(Chromosome, RandomGenerator)
+     */
+    public void crossover(Chromosome otherParent, RandomGenerator random, Chromosome child) {
+        var crossoverPoint = genes.length / 2 + (random.nextBoolean() ? 1 : -1) *
+                random.nextInt(genes.length / 5 + 1);
+        var firstPartLength = Math.min(crossoverPoint + 1, genes.length); // the gene at the crossover point belongs to the first part
+
+        var firstPartIsBigger = firstPartLength >= genes.length - firstPartLength;
+        var base = firstPartIsBigger ? this : otherParent;
+        var donor = firstPartIsBigger ? otherParent : this;
+        child.copyFrom(base);
+        var classes = dense != null ? dense.colorClasses(colors, child.genes) : null;
+        // copies the donor's genes of the smaller part into the child
+        var from = firstPartIsBigger ? firstPartLength : 0;
+        var to = firstPartIsBigger ? genes.length : firstPartLength;
+        for (var vertex = from; vertex < to; vertex++) {
+            if (child.genes[vertex] != donor.genes()[vertex]) {
+                child.changeGene(vertex, donor.genes()[vertex], classes);
+            }
+        }
+    }
+
+    /**
+     * @return chromosome with the same genes and fitness which can be changed independently of this chromosome
+     */
+    public Chromosome copy() {
+        return new Chromosome(topology, colors, genes.clone(), conflicts);
+    }
+
+    /**
+     * Overwrites the genes and fitness of this chromosome with the ones of the given chromosome, reusing the arrays of this chromosome
+     *
+     * @param source chromosome of the same graph and amount of colors
+     */
+    public void copyFrom(Chromosome source) {
+        System.arraycopy(source.genes, 0, genes, 0, genes.length);
+        conflicts = source.conflicts;
+    }
+
+    /**
+     * Changes randomly a color of the vertices
+     *
+     * @param mutationPercentage amount of genes to change
+     * @param probability        probability to change a gene
+     * @param random             random number generator used only by this mutation
+     */
+    public void mutate(double mutationPercentage, double probability, RandomGenerator random) {
+        var amountOfChanges = Math.round(genes.length * mutationPercentage);
+        long[] classes = null; // built before the first change if the graph is dense
+
+        for (var i = 0; i < amountOfChanges; i++) {
+            // if a random double between 0 and 1 is smaller than the probability, a gene is being changed
+            if (random.nextDouble() < probability) {
+                var vertex = random.nextInt(genes.length); // picks a random vertex
+                var newColor = (int) genes[vertex];
+                if (dense != null && classes == null) {
+                    classes = dense.colorClasses(colors, genes);
+                }
+                // if there is more than one valid color for this vertex, change it
+                if (countValidColors(vertex, classes) > 1) {
+                    while (newColor == genes[vertex] || !canBeColoredWith(vertex, newColor, classes)) {
+                        newColor = random.nextInt(colors);
+                    }
+                }
+                changeGene(vertex, newColor, classes); // colors the vertex with its current color if there are no other valid colors, or otherwise with a different valid color
+            }
+        }
+    }
+
+    /**
+     * Changes the color of a gene and updates the conflicts by only checking the vertex's adjacencies, or by counting the adjacencies in the old
+     * and the new color class if the graph is dense
+     *
+     * @param vertex  dense index of the vertex
+     * @param color   index of the new color
+     * @param classes bitsets of the color classes of the genes, which are updated, or null if the graph is not dense
+     */
+    private void changeGene(int vertex, int color, long[] classes) {
+        var oldColor = genes[vertex];
+        if (oldColor == color) {
+            return;
+        }
+        if (dense != null) {
+            conflicts += dense.count(vertex, classes, color) - dense.count(vertex, classes, oldColor);
+            dense.move(classes, vertex, oldColor, color);
+            genes[vertex] = (short) color;
+            return;
+        }
+        for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+            var adjacencyColor = genes[topology.neighbour(i)];
+            if (adjacencyColor == oldColor) {
+                conflicts--; // the connection to this adjacency is no longer a conflict
+            } else if (adjacencyColor == color) {
+                conflicts++; // the connection to this adjacency becomes a conflict
+            }
+        }
+        genes[vertex] = (short) color;
+    }
+
+    /**
+     * Counts the colors which are not occupied by any vertex adjacent to the given vertex
+     *
+     * @param vertex  dense index of the vertex
+     * @param classes bitsets of the color classes of the genes or null if the graph is not dense
+     * @return amount of valid colors
+     * @see Vertex#determineValidColors(int)
+     */
+    private int countValidColors(int vertex, long[] classes) {
+        var validColors = 0;
+        for (var color = 0; color < colors; color++) {
+            if (canBeColoredWith(vertex, color, classes)) {
+                validColors++;
+            }
+        }
+        return validColors;
+    }
+
+    /**
+     * Checks every vertex adjacent to the given vertex whether this color is already occupied
+     *
+     * @param vertex  dense index of the vertex
+     * @param color   index of the color to check
+     * @param classes bitsets of the color classes of the genes or null if the graph is not dense
+     * @return whether this color can be used to color the vertex
+     * @see Vertex#canBeColoredWith(int)
+     */
+    private boolean canBeColoredWith(int vertex, int color, long[] classes) {
+        if (dense != null) {
+            return !dense.intersects(vertex, classes, color);
+        }
+        for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+            if (genes[topology.neighbour(i)] == color) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Improves the genes with a local search which directly recolors the conflicting vertices (memetic algorithm)
+     *
+     * @param maxIterations maximum amount of moves of the local search
+     * @param random        random number generator used only by this improvement
+     * @see Tabucol
+     */
+    public void improve(int maxIterations, RandomGenerator random) {
+        conflicts = Tabucol.improve(topology, colors, genes, maxIterations, random);
+    }
+
+    /**
+     * Calculates the fitness of this chromosome from scratch by checking every connection.<br>
+     * Since mutations and crossovers keep the fitness up to date, this is only necessary if the genes have been changed directly
+     */
+    public void calculateFitness() {
+        if (dense != null) {
+            var classes = dense.colorClasses(colors, genes);
+            var doubleConflicts = 0;
+            for (var vertex = 0; vertex < genes.length; vertex++) {
+                doubleConflicts += dense.count(vertex, classes, genes[vertex]);
+            }
+            this.conflicts = doubleConflicts / 2; // each conflict has been counted from both endpoints
+            return;
+        }
+        var calculatedConflicts = 0;
+        for (var vertex = 0; vertex < genes.length; vertex++) {
+            for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                // each connection is only checked from its endpoint with the lower index
+                var adjacency = topology.neighbour(i);
+                if (vertex < adjacency && genes[vertex] == genes[adjacency]) {
+                    calculatedConflicts++; // if a vertex has the same color as one of its adjacent vertices, there is a conflict
+                }
+            }
+        }
+        this.conflicts = calculatedConflicts;
+    }
+
+    public boolean valid() {
+        return Graph.validate(topology, genes);
+    }
+
+    /**
+     * @see Vertex#printInformation()
+     */
+    public void printInformation() {
+        IntStream.range(0, genes.length).boxed()
+                .sorted(Comparator.comparingInt(topology::id))
+                .forEach(vertex -> Vertex.of(topology.id(vertex), genes[vertex]).printInformation());
+    }
+
+    public Topology topology() {
+        return topology;
+    }
+
+    /**
+     * @return amount of available colors
+     */
+    public int colors() {
+        return colors;
+    }
+
+    /**
+     * @return color index of each vertex, indexed by the vertices' dense indices
+     */
+    public short[] genes() {
+        return genes;
+    }
+
+    /**
+     * @return color index of each vertex as a new array, indexed by the vertices' dense indices
+     */
+    public int[] coloring() {
+        var coloring = new int[genes.length];
+        for (var i = 0; i < genes.length; i++) {
+            coloring[i] = genes[i];
+        }
+        return coloring;
+    }
+
+    /**
+     * Fitness equals the amount of connections which connect two different colored vertices
+     *
+     * @return fitness of this chromosome
+     */
+    public int fitness() {
+        return topology.edgeCount() - conflicts;
+    }
+
+    public int conflicts() {
+        return conflicts;
+    }
+}
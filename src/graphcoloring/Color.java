@@ -0,0 +1,45 @@
+package graphcoloring;
+
+/**
+ * Display names of the colors. The algorithms only work with color indices from 0 to the amount of available colors - 1, so these names are only used
+ * to print a result
+ */
+public enum Color {
+    GREEN("\u001B[32mgreen"),
+    BLUE("\u001B[34mblue"),
+    RED("\u001B[31mred"),
+    YELLOW("\u001B[33myellow");
+
+    private static final int FIRST_GENERATED_ANSI_COLOR = 16; // the first 16 ANSI 256 colors are the basic and bright terminal colors
+
+    private final String displayName; // display name with ANSI color code
+
+    Color(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * @return display name with additionally the ANSI color code which resets the color after the displayname to prevent further outputs to be colored as well
+     */
+    public String displayName() {
+        return displayName + "\u001B[0m";
+    }
+
+    /**
+     * Determines the display name of a color index. The first indices use the named colors, all further indices are displayed with their index
+     * and one of the ANSI 256 colors
+     *
+     * @param color color index
+     * @return display name of the color index or "null" if the index does not represent a color
+     */
+    public static String displayName(int color) {
+        if (color < 0) {
+            return "null";
+        }
+        if (color < values().length) {
+            return values()[color].displayName();
+        }
+        var ansiColor = FIRST_GENERATED_ANSI_COLOR + color % (256 - FIRST_GENERATED_ANSI_COLOR);
+        return "\u001B[38;5;" + ansiColor + "mcolor " + color + "\u001B[0m";
+    }
+}
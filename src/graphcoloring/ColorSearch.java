@@ -0,0 +1,161 @@
+package graphcoloring;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Searches the minimum amount of colors for which a coloring algorithm succeeds.<br>
+ * The search starts with the amount of colors of a valid coloring found by a fast heuristic (= upper bound) and never tries less colors than
+ * the size of a clique found in the graph (= lower bound), because all vertices of a clique need different colors
+ */
+public final class ColorSearch {
+
+    private ColorSearch() {
+    }
+
+    /**
+     * @param lowerBound         the search stops as soon as the algorithm succeeds with this amount of colors
+     * @param upperBound         amount of colors of the known solution
+     * @param upperBoundSolution known solution with the upper bound of colors
+     * @param algorithm          receives the amount of colors and returns a valid solution or null if it did not find any
+     * @param strategy           order in which the amounts of colors are tried
+     * @param <T>                type of a solution
+     * @return minimum amount of colors for which a solution has been found and this solution
+     */
+    public static <T> Result<T> search(int lowerBound, int upperBound, T upperBoundSolution, IntFunction<T> algorithm, Strategy strategy) {
+        var colors = upperBound;
+        var solution = upperBoundSolution;
+        var attempts = 0;
+        switch (strategy) {
+            case DESCENDING -> {
+                // removes one color after another until the algorithm fails
+                for (var k = upperBound - 1; k >= lowerBound; k--) {
+                    attempts++;
+                    var result = algorithm.apply(k);
+                    if (result == null) {
+                        break;
+                    }
+                    colors = k;
+                    solution = result;
+                }
+            }
+            case BISECTION -> {
+                // halves the range between the highest failed and the lowest succeeded amount of colors each time
+                var low = lowerBound;
+                var high = upperBound - 1;
+                while (low <= high) {
+                    var k = (low + high) >>> 1;
+                    attempts++;
+                    var result = algorithm.apply(k);
+                    if (result == null) {
+                        low = k + 1;
+                    } else {
+                        colors = k;
+                        solution = result;
+                        high = k - 1;
+                    }
+                }
+            }
+        }
+        return new Result<>(colors, solution, lowerBound, upperBound, attempts);
+    }
+
+    /**
+     * Colors the vertices with {@link DSatur} and greedily in the largest-first and in the smallest-last order and keeps the coloring with the least colors
+     *
+     * @param topology topology of the graph
+     * @return color index of each vertex, indexed by the vertices' dense indices
+     * @see GreedyColoring
+     */
+    public static int[] upperBound(Topology topology) {
+        var best = DSatur.color(topology);
+        for (var ordering : new GreedyColoring.Ordering[]{GreedyColoring.Ordering.LARGEST_FIRST, GreedyColoring.Ordering.SMALLEST_LAST}) {
+            var coloring = GreedyColoring.color(topology, ordering);
+            if (GraphColoring.countColors(coloring) < GraphColoring.countColors(best)) {
+                best = coloring;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Estimates the size of the maximum clique
+     *
+     * @param topology topology of the graph
+     * @param starts   maximum amount of vertices a clique is grown from
+     * @return size of the largest clique found, which is a lower bound of the amount of colors
+     * @see #greedyClique(Topology, int)
+     */
+    public static int cliqueLowerBound(Topology topology, int starts) {
+        return greedyClique(topology, starts).length;
+    }
+
+    /**
+     * Grows a clique from each of the vertices with the highest degrees, always adding the adjacency with the highest degree which is adjacent
+     * to all vertices of the clique
+     *
+     * @param topology topology of the graph
+     * @param starts   maximum amount of vertices a clique is grown from
+     * @return dense indices of the vertices of the largest clique found
+     */
+    public static int[] greedyClique(Topology topology, int starts) {
+        if (topology.size() == 0) {
+            return new int[0];
+        }
+        var byDegree = GreedyColoring.order(topology, GreedyColoring.Ordering.LARGEST_FIRST);
+        var adjacentMembers = new int[topology.size()]; // amount of clique members each vertex is adjacent to
+        var largestClique = new int[]{byDegree[0]};
+        for (var s = 0; s < Math.min(starts, byDegree.length); s++) {
+            var start = byDegree[s];
+            if (topology.degree(start) < largestClique.length) {
+                break; // a clique containing this vertex cannot be larger than its degree + 1
+            }
+            var candidates = new int[topology.degree(start)];
+            for (var i = 0; i < candidates.length; i++) {
+                candidates[i] = topology.neighbour(topology.start(start) + i);
+            }
+            GreedyColoring.sortByDescendingDegree(topology, candidates);
+
+            var clique = new int[candidates.length + 1];
+            var cliqueSize = 0;
+            clique[cliqueSize++] = start;
+            markAdjacencies(topology, start, adjacentMembers, 1);
+            for (var candidate : candidates) {
+                if (adjacentMembers[candidate] == cliqueSize) {
+                    clique[cliqueSize++] = candidate;
+                    markAdjacencies(topology, candidate, adjacentMembers, 1);
+                }
+            }
+            if (cliqueSize > largestClique.length) {
+                largestClique = Arrays.copyOf(clique, cliqueSize);
+            }
+            // resets the counters for the next start
+            for (var i = 0; i < cliqueSize; i++) {
+                markAdjacencies(topology, clique[i], adjacentMembers, -1);
+            }
+        }
+        return largestClique;
+    }
+
+    private static void markAdjacencies(Topology topology, int vertex, int[] counters, int change) {
+        for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+            counters[topology.neighbour(i)] += change;
+        }
+    }
+
+    /**
+     * @param colors     minimum amount of colors for which a solution has been found
+     * @param solution   solution with this amount of colors
+     * @param lowerBound lower bound of the search
+     * @param upperBound upper bound of the search
+     * @param attempts   how often the algorithm has been executed
+     * @param <T>        type of the solution
+     */
+    public record Result<T>(int colors, T solution, int lowerBound, int upperBound, int attempts) {
+    }
+
+    public enum Strategy {
+        DESCENDING,
+        BISECTION
+    }
+}
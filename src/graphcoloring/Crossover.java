@@ -0,0 +1,78 @@
+package graphcoloring;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Merges two parent chromosomes to one child chromosome. The operator of the genetic algorithm is configured with the argument "crossover"
+ * (see {@link PopulationBuffers}), which can hold any implementation
+ */
+@FunctionalInterface
+public interface Crossover {
+
+    /**
+     * Copies the genes up to a random point near the middle from the first parent and the remaining genes from the second parent
+     *
+     * @see Chromosome#crossover(Chromosome, RandomGenerator)
+     */
+    Crossover ONE_POINT = new Crossover() {
+        @Override
+        public Chromosome cross(Chromosome first, Chromosome second, RandomGenerator random) {
+            return first.crossover(second, random);
+        }
+
+        @Override
+        public void cross(Chromosome first, Chromosome second, RandomGenerator random, Chromosome child) {
+            first.crossover(second, random, child);
+        }
+    };
+
+    /**
+     * Inherits whole color classes alternately from both parents
+     *
+     * @see PartitionCrossover
+     */
+    Crossover GPX = new Crossover() {
+        @Override
+        public Chromosome cross(Chromosome first, Chromosome second, RandomGenerator random) {
+            return PartitionCrossover.cross(first, second, random);
+        }
+
+        @Override
+        public void cross(Chromosome first, Chromosome second, RandomGenerator random, Chromosome child) {
+            PartitionCrossover.cross(first, second, random, child);
+        }
+    };
+
+    /**
+     * @param first  first parent
+     * @param second second parent
+     * @param random random number generator used only by this crossover
+     * @return child of the parents, the parents stay unchanged
+     */
+    Chromosome cross(Chromosome first, Chromosome second, RandomGenerator random);
+
+    /**
+     * Writes the child of the parents into the given chromosome, so a generation can reuse the chromosomes of an older generation.
+     * By default, the child is created by {@link #cross(Chromosome, Chromosome, RandomGenerator)} and copied
+     *
+     * @param first  first parent
+     * @param second second parent
+     * @param random random number generator used only by this crossover
+     * @param child  chromosome of the same graph and amount of colors which receives the child, neither of the parents
+     */
+    default void cross(Chromosome first, Chromosome second, RandomGenerator random, Chromosome child) {
+        child.copyFrom(cross(first, second, random));
+    }
+
+    /**
+     * @param name "one_point" or "gpx", in any case
+     * @return crossover with this name
+     */
+    static Crossover of(String name) {
+        return switch (name.toLowerCase()) {
+            case "one_point" -> ONE_POINT;
+            case "gpx" -> GPX;
+            default -> throw new IllegalArgumentException("Unknown crossover \"" + name + "\", expected \"one_point\" or \"gpx\".");
+        };
+    }
+}
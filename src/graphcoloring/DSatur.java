@@ -0,0 +1,132 @@
+package graphcoloring;
+
+import java.util.Arrays;
+
+/**
+ * Degree of saturation (DSatur) coloring: repeatedly colors the uncolored vertex whose adjacencies already use the most different colors
+ * (= saturation) with the first color which is not used by any of its adjacencies.<br>
+ * The uncolored vertices are kept in one doubly linked list per saturation (= bucket), so moving a vertex to the next saturation and finding a
+ * vertex with the highest saturation take constant amortized time. Within a bucket, the vertex which entered it last is chosen, and initially
+ * the vertices enter the bucket of saturation 0 in the order of ascending degree, so ties are broken in favour of vertices with a high degree.
+ * The colors used by the adjacencies of each vertex are stored in a bitset which only grows as far as needed
+ */
+public final class DSatur {
+
+    private static final int NONE = -1;
+
+    private final Topology topology;
+    private final int[] coloring;
+    private final int[] saturations;
+    private final long[][] adjacentColors; // bitset of the colors used by the adjacencies of each vertex
+
+    // buckets of uncolored vertices as doubly linked lists, indexed by saturation
+    private final int[] bucketHeads;
+    private final int[] next;
+    private final int[] previous;
+    private int maxSaturation = 0; // no bucket above this saturation contains any vertex
+
+    private DSatur(Topology topology) {
+        this.topology = topology;
+        this.coloring = new int[topology.size()];
+        this.saturations = new int[topology.size()];
+        this.adjacentColors = new long[topology.size()][];
+        this.bucketHeads = new int[topology.maxDegree() + 1];
+        this.next = new int[topology.size()];
+        this.previous = new int[topology.size()];
+        Arrays.fill(coloring, Vertex.NO_COLOR);
+        Arrays.fill(bucketHeads, NONE);
+    }
+
+    /**
+     * Colors all vertices with the DSatur algorithm
+     *
+     * @param topology topology of the graph
+     * @return color index of each vertex, indexed by the vertices' dense indices
+     */
+    public static int[] color(Topology topology) {
+        return new DSatur(topology).run();
+    }
+
+    private int[] run() {
+        var byDegree = GreedyColoring.order(topology, GreedyColoring.Ordering.LARGEST_FIRST);
+        for (var i = byDegree.length - 1; i >= 0; i--) {
+            insert(byDegree[i], 0);
+        }
+
+        for (var colored = 0; colored < topology.size(); colored++) {
+            while (bucketHeads[maxSaturation] == NONE) {
+                maxSaturation--;
+            }
+            var vertex = bucketHeads[maxSaturation];
+            remove(vertex, maxSaturation);
+
+            var color = firstFreeColor(vertex);
+            coloring[vertex] = color;
+            adjacentColors[vertex] = null; // no longer needed
+
+            // the color increases the saturation of each uncolored adjacency which is not adjacent to this color yet
+            for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                var adjacency = topology.neighbour(i);
+                if (coloring[adjacency] == Vertex.NO_COLOR && addAdjacentColor(adjacency, color)) {
+                    remove(adjacency, saturations[adjacency]);
+                    saturations[adjacency]++;
+                    insert(adjacency, saturations[adjacency]);
+                    maxSaturation = Math.max(maxSaturation, saturations[adjacency]);
+                }
+            }
+        }
+        return coloring;
+    }
+
+    private int firstFreeColor(int vertex) {
+        var bits = adjacentColors[vertex];
+        if (bits == null) {
+            return 0;
+        }
+        for (var word = 0; word < bits.length; word++) {
+            if (bits[word] != -1L) {
+                return word * Long.SIZE + Long.numberOfTrailingZeros(~bits[word]);
+            }
+        }
+        return bits.length * Long.SIZE;
+    }
+
+    /**
+     * @return whether the color has not been adjacent to the vertex before
+     */
+    private boolean addAdjacentColor(int vertex, int color) {
+        var word = color / Long.SIZE;
+        var bits = adjacentColors[vertex];
+        if (bits == null || bits.length <= word) {
+            bits = bits == null ? new long[word + 1] : Arrays.copyOf(bits, Math.max(word + 1, bits.length * 2));
+            adjacentColors[vertex] = bits;
+        }
+        var mask = 1L << color; // only the lowest six bits of the color are used for the shift
+        if ((bits[word] & mask) != 0) {
+            return false;
+        }
+        bits[word] |= mask;
+        return true;
+    }
+
+    private void insert(int vertex, int saturation) {
+        var head = bucketHeads[saturation];
+        next[vertex] = head;
+        previous[vertex] = NONE;
+        if (head != NONE) {
+            previous[head] = vertex;
+        }
+        bucketHeads[saturation] = vertex;
+    }
+
+    private void remove(int vertex, int saturation) {
+        if (previous[vertex] == NONE) {
+            bucketHeads[saturation] = next[vertex];
+        } else {
+            next[previous[vertex]] = next[vertex];
+        }
+        if (next[vertex] != NONE) {
+            previous[next[vertex]] = previous[vertex];
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package graphcoloring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Reduces a graph to its hard kernels before it is colored, so the expensive algorithms only see a fraction of the vertices:<br>
+ * 1. Vertices with less adjacencies than the lower bound of colors (= size of a clique) are removed repeatedly, since whatever coloring the
+ * remaining vertices get, such a vertex can be colored afterwards with one of the first lower bound colors.<br>
+ * 2. A vertex whose adjacencies are all adjacent to another vertex it is not adjacent to (= dominated vertex) is removed, since it can get the
+ * color of the other vertex.<br>
+ * 3. Steps 1 and 2 alternate until no vertex is removed anymore, then the remaining vertices are split into their connected components
+ * (= kernels), which are colored independently.<br>
+ * After the kernels have been colored, the removed vertices are colored in the reverse order of their removal, so each one only depends on
+ * vertices which have been present when it was removed. The whole graph then needs as many colors as the kernel with the most colors, but at
+ * least the lower bound. Since removing vertices never connects components, reducing the whole graph first and splitting the rest afterwards
+ * yields the same kernels as reducing each component, without creating a topology for every small component
+ */
+public final class Decomposition {
+
+    private static final int NONE = -1;
+    private static final int CLIQUE_STARTS = 64;
+    private static final int MAX_DOMINATION_CANDIDATES = 256; // vertices whose adjacencies all have a higher degree are not checked for domination
+
+    private final Topology topology;
+    private final int lowerBound;
+    private final int[] removals; // removed vertices in the order of their removal
+    private final int[] dominators; // vertex whose color each dominated vertex gets, NONE for vertices removed because of their degree
+    private final List<int[]> kernelVertices = new ArrayList<>(); // dense index in the graph of each vertex of each kernel
+    private final List<Topology> kernels = new ArrayList<>();
+
+    private Decomposition(Topology topology, int lowerBound, Reduction reduction) {
+        this.topology = topology;
+        this.lowerBound = lowerBound;
+        this.removals = Arrays.copyOf(reduction.removals, reduction.removalCount);
+        this.dominators = reduction.dominators;
+
+        // splits the remaining vertices into connected components with a breadth-first search, the queue ends up containing each component
+        var localIndices = new int[topology.size()]; // index of each remaining vertex within its kernel
+        Arrays.fill(localIndices, NONE);
+        var queue = new int[topology.size()];
+        for (var start = 0; start < topology.size(); start++) {
+            if (reduction.removed[start] || localIndices[start] != NONE) {
+                continue;
+            }
+            var tail = 0;
+            localIndices[start] = tail;
+            queue[tail++] = start;
+            for (var head = 0; head < tail; head++) {
+                var vertex = queue[head];
+                for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                    var adjacency = topology.neighbour(i);
+                    if (!reduction.removed[adjacency] && localIndices[adjacency] == NONE) {
+                        localIndices[adjacency] = tail;
+                        queue[tail++] = adjacency;
+                    }
+                }
+            }
+            var vertices = Arrays.copyOf(queue, tail);
+            kernelVertices.add(vertices);
+            kernels.add(induce(vertices, localIndices));
+        }
+    }
+
+    /**
+     * @param topology topology of the graph
+     * @return kernels of the graph
+     */
+    public static Decomposition of(Topology topology) {
+        var lowerBound = ColorSearch.cliqueLowerBound(topology, CLIQUE_STARTS);
+        return new Decomposition(topology, lowerBound, new Reduction(topology, lowerBound));
+    }
+
+    /**
+     * @param vertices dense indices of the vertices of the kernel
+     * @param indices  index within the kernel of each vertex of the graph or NONE if it has been removed
+     * @return subgraph of the given vertices with the edges between them
+     */
+    private Topology induce(int[] vertices, int[] indices) {
+        var offsets = new int[vertices.length + 1];
+        var ids = new int[vertices.length];
+        for (var i = 0; i < vertices.length; i++) {
+            var vertex = vertices[i];
+            ids[i] = topology.id(vertex);
+            offsets[i + 1] = offsets[i];
+            for (var j = topology.start(vertex); j < topology.end(vertex); j++) {
+                if (indices[topology.neighbour(j)] != NONE) {
+                    offsets[i + 1]++;
+                }
+            }
+        }
+        var neighbours = new int[offsets[vertices.length]];
+        var position = 0;
+        for (var vertex : vertices) {
+            for (var j = topology.start(vertex); j < topology.end(vertex); j++) {
+                var index = indices[topology.neighbour(j)];
+                if (index != NONE) {
+                    neighbours[position++] = index;
+                }
+            }
+        }
+        return new Topology(offsets, neighbours, ids);
+    }
+
+    /**
+     * @return topologies of the kernels, whose dense indices are local to each kernel
+     */
+    public List<Topology> kernels() {
+        return kernels;
+    }
+
+    /**
+     * Colors the kernels and extends their colorings to the whole graph
+     *
+     * @param workers workers which color the kernels in parallel
+     * @param solver  receives the index of a kernel in {@link #kernels()} and returns a valid coloring of it
+     * @return color index of each vertex of the graph
+     */
+    public int[] color(Workers workers, IntFunction<int[]> solver) {
+        var kernelColorings = new int[kernels.size()][];
+        workers.forEach(kernelColorings.length, i -> kernelColorings[i] = solver.apply(i));
+        return extend(Arrays.asList(kernelColorings));
+    }
+
+    /**
+     * @param kernelColorings valid coloring of each kernel, in the order of {@link #kernels()}
+     * @return color index of each vertex of the graph
+     */
+    public int[] extend(List<int[]> kernelColorings) {
+        var coloring = new int[topology.size()];
+        Arrays.fill(coloring, Vertex.NO_COLOR);
+        for (var kernel = 0; kernel < kernels.size(); kernel++) {
+            var vertices = kernelVertices.get(kernel);
+            var kernelColoring = kernelColorings.get(kernel);
+            for (var i = 0; i < vertices.length; i++) {
+                coloring[vertices[i]] = kernelColoring[i];
+            }
+        }
+        for (var i = removals.length - 1; i >= 0; i--) {
+            var vertex = removals[i];
+            coloring[vertex] = dominators[vertex] != NONE ? coloring[dominators[vertex]] : GreedyColoring.firstFreeColor(topology, vertex, coloring);
+        }
+        return coloring;
+    }
+
+    /**
+     * @return size of the clique which determined the minimum degree of the kernels' vertices
+     */
+    public int lowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * @return amount of vertices of all kernels
+     */
+    public int kernelSize() {
+        return topology.size() - removals.length;
+    }
+
+    /**
+     * Removes the vertices of the graph, the state is only needed until the kernels have been determined
+     */
+    private static final class Reduction {
+
+        private final Topology topology;
+        private final int threshold; // vertices with a lower degree are removed
+
+        private final int[] degrees; // amount of adjacencies which have not been removed
+        private final boolean[] removed;
+        private final int[] removals;
+        private int removalCount;
+        private final int[] dominators;
+
+        // vertices whose degree fell below the threshold, but have not been removed yet
+        private final boolean[] queued;
+        private final int[] queue;
+        private int queueSize;
+
+        // vertices which have to be checked for domination, since the adjacencies of a vertex or the degrees of its adjacencies only change when
+        // one of its adjacencies or second adjacencies is removed
+        private final boolean[] pending;
+        private final int[] worklist;
+        private int worklistSize;
+
+        private final int[] stamps; // marks the adjacencies of the vertex which is checked for domination
+        private int stamp;
+        private final int[] visits; // marks the adjacencies of a candidate which have been counted, so parallel edges are only counted once
+        private int visit;
+
+        Reduction(Topology topology, int threshold) {
+            this.topology = topology;
+            this.threshold = threshold;
+            var size = topology.size();
+            degrees = new int[size];
+            removed = new boolean[size];
+            removals = new int[size];
+            dominators = new int[size];
+            Arrays.fill(dominators, NONE);
+            queued = new boolean[size];
+            queue = new int[size];
+            pending = new boolean[size];
+            worklist = new int[size];
+            stamps = new int[size];
+            visits = new int[size];
+            for (var vertex = 0; vertex < size; vertex++) {
+                degrees[vertex] = topology.degree(vertex);
+                enqueueIfLow(vertex);
+            }
+            for (var vertex = size - 1; vertex >= 0; vertex--) {
+                schedule(vertex); // the vertices are checked in ascending order first
+            }
+
+            // removes the vertices with a low degree before checking the next vertex for domination
+            while (true) {
+                if (queueSize > 0) {
+                    remove(queue[--queueSize]);
+                    continue;
+                }
+                if (worklistSize == 0) {
+                    break;
+                }
+                var vertex = worklist[--worklistSize];
+                pending[vertex] = false;
+                if (removed[vertex] || queued[vertex]) {
+                    continue;
+                }
+                var dominator = dominator(vertex);
+                if (dominator != NONE) {
+                    dominators[vertex] = dominator;
+                    remove(vertex);
+                }
+            }
+        }
+
+        private void enqueueIfLow(int vertex) {
+            if (degrees[vertex] < threshold && !queued[vertex]) {
+                queued[vertex] = true;
+                queue[queueSize++] = vertex;
+            }
+        }
+
+        private void schedule(int vertex) {
+            if (!removed[vertex] && !pending[vertex]) {
+                pending[vertex] = true;
+                worklist[worklistSize++] = vertex;
+            }
+        }
+
+        /**
+         * Removes the vertex and schedules the vertices which may have become dominated: its adjacencies, which lost an adjacency, and the
+         * adjacencies of an adjacency whose degree has just fallen to {@link #MAX_DOMINATION_CANDIDATES}, which may be searched for a dominator
+         * now. Each adjacency falls to that degree at most once, so all schedules take O(|E|) in total
+         */
+        private void remove(int vertex) {
+            removed[vertex] = true;
+            removals[removalCount++] = vertex;
+            for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                var adjacency = topology.neighbour(i);
+                if (!removed[adjacency]) {
+                    degrees[adjacency]--;
+                    enqueueIfLow(adjacency);
+                    schedule(adjacency);
+                    if (degrees[adjacency] == MAX_DOMINATION_CANDIDATES) {
+                        for (var j = topology.start(adjacency); j < topology.end(adjacency); j++) {
+                            schedule(topology.neighbour(j));
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Searches a vertex which is not adjacent to the given vertex, but to all of its remaining adjacencies. Such a vertex has to be adjacent
+         * to the adjacency with the lowest degree, so only its adjacencies are candidates
+         *
+         * @return dominating vertex or NONE
+         */
+        private int dominator(int vertex) {
+            stamp++;
+            var sparsest = NONE;
+            var adjacencies = 0; // remaining adjacencies of the vertex
+            for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                var adjacency = topology.neighbour(i);
+                if (!removed[adjacency] && stamps[adjacency] != stamp) {
+                    stamps[adjacency] = stamp;
+                    adjacencies++;
+                    if (sparsest == NONE || degrees[adjacency] < degrees[sparsest]) {
+                        sparsest = adjacency;
+                    }
+                }
+            }
+            if (sparsest == NONE || degrees[sparsest] > MAX_DOMINATION_CANDIDATES) {
+                return NONE;
+            }
+            for (var i = topology.start(sparsest); i < topology.end(sparsest); i++) {
+                var candidate = topology.neighbour(i);
+                if (candidate == vertex || removed[candidate] || stamps[candidate] == stamp || degrees[candidate] < adjacencies) {
+                    continue;
+                }
+                visit++;
+                var shared = 0; // remaining adjacencies of the vertex which are adjacent to the candidate
+                for (var j = topology.start(candidate); j < topology.end(candidate); j++) {
+                    var adjacency = topology.neighbour(j);
+                    if (!removed[adjacency] && stamps[adjacency] == stamp && visits[adjacency] != visit) {
+                        visits[adjacency] = visit;
+                        shared++;
+                    }
+                }
+                if (shared == adjacencies) {
+                    return candidate;
+                }
+            }
+            return NONE;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package graphcoloring;
+
+import java.util.Arrays;
+
+/**
+ * Adjacency matrix of a dense graph with one bitset per vertex, which is used instead of the neighbour lists of the {@link Topology} if
+ * the average degree exceeds the amount of 64-bit words of a bitset.<br>
+ * Together with one bitset per color class, whether a color is free for a vertex and how many adjacencies have a color are determined
+ * by ANDing the vertex's bitset with the color class word by word, which checks 64 vertices per instruction instead of one adjacency per lookup.
+ * The color classes are built from the genes in one buffer per thread with one row of {@link #words()} words per color, so a chromosome does
+ * not keep colors * vertices / 64 words, which would multiply with the size of the population
+ */
+public final class DenseAdjacency {
+
+    private static final int MAX_VERTICES = 1 << 14; // the bitsets need vertices^2 / 8 bytes
+    private static final ThreadLocal<long[][]> CLASS_BUFFERS = ThreadLocal.withInitial(() -> new long[][]{new long[0]}); // only grown
+
+    private final int size;
+    private final int words; // amount of 64-bit words of each bitset
+    private final long[] bits; // bitset of the adjacencies of each vertex (row)
+
+    private DenseAdjacency(int size, int words, long[] bits) {
+        this.size = size;
+        this.words = words;
+        this.bits = bits;
+    }
+
+    /**
+     * @param topology topology of the graph
+     * @return adjacency matrix of the graph or null if the graph is too sparse or too large for bitsets, or has self-loops or parallel edges,
+     * whose conflicts could not be counted with bitsets
+     */
+    static DenseAdjacency of(Topology topology) {
+        var size = topology.size();
+        var words = (size + Long.SIZE - 1) / Long.SIZE;
+        if (size > MAX_VERTICES || size == 0 || 2L * topology.edgeCount() < (long) size * words) {
+            return null;
+        }
+        var bits = new long[size * words];
+        for (var vertex = 0; vertex < size; vertex++) {
+            var row = vertex * words;
+            for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                var adjacency = topology.neighbour(i);
+                var word = row + (adjacency >>> 6);
+                if (adjacency == vertex || (bits[word] & 1L << adjacency) != 0) {
+                    return null;
+                }
+                bits[word] |= 1L << adjacency;
+            }
+        }
+        return new DenseAdjacency(size, words, bits);
+    }
+
+    /**
+     * @param colors amount of colors
+     * @param genes  color index of each vertex below the amount of colors
+     * @return bitset of the vertices of each color (row) in the thread's buffer, which is only valid until the thread's next call
+     */
+    long[] colorClasses(int colors, short[] genes) {
+        var buffer = CLASS_BUFFERS.get();
+        var length = colors * words;
+        if (buffer[0].length < length) {
+            buffer[0] = new long[length];
+        }
+        var classes = buffer[0];
+        Arrays.fill(classes, 0, length, 0);
+        for (var vertex = 0; vertex < size; vertex++) {
+            classes[genes[vertex] * words + (vertex >>> 6)] |= 1L << vertex;
+        }
+        return classes;
+    }
+
+    /**
+     * Moves the vertex from one color class to another
+     */
+    void move(long[] classes, int vertex, int oldColor, int color) {
+        var word = vertex >>> 6;
+        classes[oldColor * words + word] &= ~(1L << vertex);
+        classes[color * words + word] |= 1L << vertex;
+    }
+
+    /**
+     * @param vertex  dense index of the vertex
+     * @param classes bitsets of the color classes
+     * @param color   color index of the class
+     * @return whether any adjacency of the vertex has the color
+     */
+    boolean intersects(int vertex, long[] classes, int color) {
+        var row = vertex * words;
+        var classRow = color * words;
+        for (var word = 0; word < words; word++) {
+            if ((bits[row + word] & classes[classRow + word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param vertex  dense index of the vertex
+     * @param classes bitsets of the color classes
+     * @param color   color index of the class
+     * @return amount of adjacencies of the vertex with the color
+     */
+    int count(int vertex, long[] classes, int color) {
+        var row = vertex * words;
+        var classRow = color * words;
+        var count = 0;
+        for (var word = 0; word < words; word++) {
+            count += Long.bitCount(bits[row + word] & classes[classRow + word]);
+        }
+        return count;
+    }
+
+    /**
+     * @return amount of 64-bit words of each bitset
+     */
+    public int words() {
+        return words;
+    }
+}
@@ -0,0 +1,784 @@
+package graphcoloring;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Graph whose vertices and edges change through batches of updates, while a valid coloring of it is kept up to date.<br>
+ * Inserting an edge can only create a conflict between its endpoints and inserting a vertex leaves it uncolored, so after a batch only these
+ * vertices are recolored, each one by the first of the following steps which succeeds:<br>
+ * 1. a color within the current amount of colors which none of its adjacencies has<br>
+ * 2. a Kempe chain interchange: if only one adjacency has a color c, the connected subgraph of the colors c and d which contains it (= Kempe chain)
+ * swaps these two colors, which keeps the coloring valid and frees c for the vertex, unless the chain contains an adjacency with color d<br>
+ * 3. a bounded local search, which gives the vertex the color with the least conflicting adjacencies and recolors them in the same way, but
+ * never with the color they just lost<br>
+ * Each step only visits the vertex's adjacencies, a Kempe chain of limited size or a limited amount of moves, so the duration of a batch depends
+ * on the affected neighbourhoods instead of the size of the graph. Only if the local search gives up, the escalation stays as local as
+ * possible:<br>
+ * 4. a {@link Tabucol} search on the region within a few adjacencies around the vertices of the failed local searches, while all other
+ * vertices keep their colors<br>
+ * 5. a Tabucol search on the whole graph with the current amount of colors<br>
+ * 6. the amount of colors grows and the remaining conflicting vertices get the first color none of their adjacencies has<br>
+ * {@link Repair#escalation()} reports the last step which has run.<br>
+ * Removing vertices or edges never creates conflicts, so the amount of colors is not reduced by them
+ */
+public final class DynamicGraph {
+
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CHAIN_SIZE = 64; // larger Kempe chains are not swapped, since they reach too far into the graph
+    private static final int MAX_LOCAL_MOVES = 64; // moves to a conflicting color per repaired vertex before the local search gives up
+    private static final int REGION_RADIUS = 2; // the region contains the adjacencies of the failed local searches up to this distance
+    private static final int MAX_REGION_SIZE = 1024;
+    private static final int REGION_TABU_ITERATIONS = 10_000;
+    private static final int GLOBAL_TABU_ITERATIONS = 100_000;
+
+    private final Map<Integer, Integer> slots = new HashMap<>(); // vertex ID -> slot
+    private int[] ids = new int[INITIAL_CAPACITY]; // ID of the vertex in each slot
+    private int[][] adjacencies = new int[INITIAL_CAPACITY][]; // slots of the adjacencies of each slot, only the first degree entries are used
+    private int[] degrees = new int[INITIAL_CAPACITY];
+    private int[] coloring = new int[INITIAL_CAPACITY]; // color index of each slot
+    private boolean[] present = new boolean[INITIAL_CAPACITY]; // whether a slot contains a vertex
+    private int slotCount; // amount of slots which have been used, including the ones of removed vertices
+    private int[] freeSlots = new int[INITIAL_CAPACITY]; // slots of removed vertices, which are reused by inserted vertices
+    private int freeSlotCount;
+    private int colors; // amount of colors the coloring may use
+
+    private final SplittableRandom random = new SplittableRandom(0); // the global search is deterministic for the same updates
+
+    // workspace of the repairs, the marks are compared with counters, so they never have to be cleared
+    private int[] pendingMarks = new int[INITIAL_CAPACITY]; // marks the vertices which are repaired after the current batch
+    private int batchCount;
+    private int[] pending = new int[INITIAL_CAPACITY];
+    private int pendingCount;
+    private int[] neighbourMarks = new int[INITIAL_CAPACITY]; // marks the adjacencies of the vertex which is recolored
+    private int neighbourMark;
+    private int[] visits = new int[INITIAL_CAPACITY]; // marks the vertices of the Kempe chain which is searched
+    private int visit;
+    private int[] colorCounts = new int[INITIAL_CAPACITY]; // amount of adjacencies with each color of the vertex which is recolored
+    private final int[] chain = new int[MAX_CHAIN_SIZE];
+    private int chainSize;
+    private int[] queue = new int[2 * INITIAL_CAPACITY]; // pairs of a vertex the local search recolors and the color it has just lost
+    private int recolorings;
+    private int[] regionMarks = new int[INITIAL_CAPACITY]; // marks the vertices of the region which is searched after failed local searches
+    private int regionMark;
+    private int[] regionIndices = new int[INITIAL_CAPACITY]; // index of each marked vertex in the region
+    private int[] region = new int[INITIAL_CAPACITY];
+    private int regionSize;
+
+    /**
+     * Creates an empty graph
+     */
+    public DynamicGraph() {
+    }
+
+    /**
+     * Creates a graph with the vertices, edges and coloring of a colored graph, e.g. the result of one of the algorithms
+     *
+     * @param topology topology of the graph
+     * @param coloring valid color index of each vertex, indexed by the vertices' dense indices
+     */
+    public DynamicGraph(Topology topology, int[] coloring) {
+        if (topology.hasDuplicateIds()) {
+            throw new IllegalArgumentException("There are multiple vertices with the same ID.");
+        }
+        if (coloring.length != topology.size() || !Graph.validate(topology, coloring)) {
+            throw new IllegalArgumentException("The coloring is not a valid coloring of the graph.");
+        }
+        ensureSlots(topology.size());
+        for (var vertex = 0; vertex < topology.size(); vertex++) {
+            var slot = addVertex(topology.id(vertex)); // equals the dense index, since all slots are free
+            this.coloring[slot] = coloring[vertex];
+            colors = Math.max(colors, coloring[vertex] + 1);
+        }
+        for (var vertex = 0; vertex < topology.size(); vertex++) {
+            neighbourMark++;
+            for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                var adjacency = topology.neighbour(i);
+                if (neighbourMarks[adjacency] != neighbourMark) { // parallel edges are only kept once
+                    neighbourMarks[adjacency] = neighbourMark;
+                    append(vertex, adjacency);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the updates of the batch in their order and repairs the coloring afterwards
+     *
+     * @param batch updates to apply
+     * @return statistics of the repair
+     */
+    public Repair apply(Batch batch) {
+        var start = System.nanoTime();
+        batchCount++;
+        pendingCount = 0;
+        recolorings = 0;
+        regionMark++;
+        regionSize = 0;
+        for (var i = 0; i < batch.size; i++) {
+            var first = batch.operations[3 * i + 1];
+            var second = batch.operations[3 * i + 2];
+            switch (batch.operations[3 * i]) {
+                case Batch.ADD_VERTEX -> addVertex(first);
+                case Batch.REMOVE_VERTEX -> removeVertex(first);
+                case Batch.ADD_EDGE -> addEdge(addVertex(first), addVertex(second));
+                case Batch.REMOVE_EDGE -> removeEdge(first, second);
+                default -> throw new IllegalStateException("Unknown update " + batch.operations[3 * i]);
+            }
+        }
+
+        var unresolved = false;
+        for (var i = 0; i < pendingCount; i++) {
+            var vertex = pending[i];
+            if (present[vertex] && conflicting(vertex) && !repairLocally(vertex)) {
+                unresolved = true;
+            }
+        }
+        var escalation = Escalation.LOCAL;
+        if (unresolved) {
+            if (repairRegion()) {
+                escalation = Escalation.REGION;
+            } else {
+                escalation = solveGlobally() ? Escalation.GLOBAL : Escalation.NEW_COLORS;
+            }
+        }
+        return new Repair(recolorings, colors, escalation, System.nanoTime() - start);
+    }
+
+    /**
+     * @return slot of the vertex, which is inserted uncolored if it does not exist yet
+     */
+    private int addVertex(int id) {
+        var existing = slots.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            ensureSlots(slotCount + 1);
+            slot = slotCount++;
+        }
+        slots.put(id, slot);
+        ids[slot] = id;
+        if (adjacencies[slot] == null) {
+            adjacencies[slot] = new int[4];
+        }
+        degrees[slot] = 0;
+        coloring[slot] = Vertex.NO_COLOR;
+        present[slot] = true;
+        markPending(slot);
+        return slot;
+    }
+
+    private void removeVertex(int id) {
+        var slot = slots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        for (var i = 0; i < degrees[slot]; i++) {
+            detach(adjacencies[slot][i], slot);
+        }
+        degrees[slot] = 0;
+        coloring[slot] = Vertex.NO_COLOR;
+        present[slot] = false;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, 2 * freeSlots.length);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    private void addEdge(int first, int second) {
+        // only the shorter list of adjacencies is searched for an existing edge
+        var shorter = degrees[first] <= degrees[second] ? first : second;
+        var other = shorter == first ? second : first;
+        for (var i = 0; i < degrees[shorter]; i++) {
+            if (adjacencies[shorter][i] == other) {
+                return;
+            }
+        }
+        append(first, second);
+        append(second, first);
+        if (coloring[first] != Vertex.NO_COLOR && coloring[first] == coloring[second]) {
+            markPending(shorter); // recoloring the endpoint with less adjacencies is cheaper
+        }
+    }
+
+    private void removeEdge(int firstId, int secondId) {
+        var first = slots.get(firstId);
+        var second = slots.get(secondId);
+        if (first != null && second != null) {
+            detach(first, second);
+            detach(second, first);
+        }
+    }
+
+    private void append(int vertex, int adjacency) {
+        if (degrees[vertex] == adjacencies[vertex].length) {
+            adjacencies[vertex] = Arrays.copyOf(adjacencies[vertex], 2 * degrees[vertex]);
+        }
+        adjacencies[vertex][degrees[vertex]++] = adjacency;
+    }
+
+    /**
+     * Removes the adjacency from the vertex's adjacencies by moving the last adjacency to its position
+     */
+    private void detach(int vertex, int adjacency) {
+        var list = adjacencies[vertex];
+        for (var i = 0; i < degrees[vertex]; i++) {
+            if (list[i] == adjacency) {
+                list[i] = list[--degrees[vertex]];
+                return;
+            }
+        }
+    }
+
+    private void markPending(int vertex) {
+        if (pendingMarks[vertex] != batchCount) {
+            pendingMarks[vertex] = batchCount;
+            if (pendingCount == pending.length) {
+                pending = Arrays.copyOf(pending, 2 * pending.length);
+            }
+            pending[pendingCount++] = vertex;
+        }
+    }
+
+    /**
+     * @return whether the vertex is uncolored or has the same color as one of its adjacencies
+     */
+    private boolean conflicting(int vertex) {
+        if (coloring[vertex] == Vertex.NO_COLOR) {
+            return true;
+        }
+        for (var i = 0; i < degrees[vertex]; i++) {
+            if (coloring[adjacencies[vertex][i]] == coloring[vertex]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recolors the vertex and, if the local search moves it to a conflicting color, the adjacencies which conflict with it
+     *
+     * @param start vertex which is uncolored or conflicting
+     * @return whether the coloring is valid around all recolored vertices, otherwise the local search has given up and its vertices are
+     * added to the region
+     */
+    private boolean repairLocally(int start) {
+        var tail = enqueue(0, start, Vertex.NO_COLOR);
+        var moves = 0;
+        for (var head = 0; head < tail; head += 2) {
+            var vertex = queue[head];
+            var lostColor = queue[head + 1];
+            if (!conflicting(vertex)) {
+                continue; // e.g. a Kempe chain interchange of another vertex has already resolved the conflict
+            }
+            coloring[vertex] = Vertex.NO_COLOR;
+            countAdjacentColors(vertex);
+            var color = freeColor();
+            if (color == NONE) {
+                color = kempeColor(vertex);
+            }
+            if (color != NONE) {
+                assign(vertex, color);
+                continue;
+            }
+
+            color = leastConflictingColor(lostColor);
+            if (color == NONE) {
+                return giveUp(tail); // there are no colors at all yet
+            }
+            assign(vertex, color);
+            if (++moves > MAX_LOCAL_MOVES) {
+                return giveUp(tail);
+            }
+            for (var i = 0; i < degrees[vertex]; i++) {
+                var adjacency = adjacencies[vertex][i];
+                if (coloring[adjacency] == color) {
+                    tail = enqueue(tail, adjacency, color);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean giveUp(int tail) {
+        for (var head = 0; head < tail; head += 2) {
+            addToRegion(queue[head]);
+        }
+        return false;
+    }
+
+    private void addToRegion(int vertex) {
+        if (regionMarks[vertex] != regionMark) {
+            regionMarks[vertex] = regionMark;
+            regionIndices[vertex] = regionSize;
+            if (regionSize == region.length) {
+                region = Arrays.copyOf(region, 2 * region.length);
+            }
+            region[regionSize++] = vertex;
+        }
+    }
+
+    private int enqueue(int tail, int vertex, int lostColor) {
+        if (tail + 2 > queue.length) {
+            queue = Arrays.copyOf(queue, 2 * queue.length);
+        }
+        queue[tail] = vertex;
+        queue[tail + 1] = lostColor;
+        return tail + 2;
+    }
+
+    private void countAdjacentColors(int vertex) {
+        if (colorCounts.length < colors) {
+            colorCounts = new int[Math.max(colors, 2 * colorCounts.length)];
+        }
+        Arrays.fill(colorCounts, 0, colors, 0);
+        for (var i = 0; i < degrees[vertex]; i++) {
+            var color = coloring[adjacencies[vertex][i]];
+            if (color != Vertex.NO_COLOR) {
+                colorCounts[color]++;
+            }
+        }
+    }
+
+    /**
+     * @return first color which none of the counted adjacencies has or NONE
+     */
+    private int freeColor() {
+        for (var color = 0; color < colors; color++) {
+            if (colorCounts[color] == 0) {
+                return color;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @param excluded color which must not be chosen if there is another one
+     * @return color with the least counted adjacencies, preferring lower colors, or NONE if there are no colors
+     */
+    private int leastConflictingColor(int excluded) {
+        var best = NONE;
+        for (var color = 0; color < colors; color++) {
+            if (color != excluded && (best == NONE || colorCounts[color] < colorCounts[best])) {
+                best = color;
+            }
+        }
+        return best == NONE && colors > 0 ? 0 : best;
+    }
+
+    /**
+     * Searches a color c which only one adjacency of the uncolored vertex has and a color d, so that the Kempe chain of c and d containing this
+     * adjacency does not contain an adjacency with color d, and swaps the colors of the chain
+     *
+     * @return color c, which is free for the vertex after the interchange, or NONE
+     */
+    private int kempeColor(int vertex) {
+        neighbourMark++;
+        for (var i = 0; i < degrees[vertex]; i++) {
+            neighbourMarks[adjacencies[vertex][i]] = neighbourMark;
+        }
+        for (var c = 0; c < colors; c++) {
+            if (colorCounts[c] != 1) {
+                continue;
+            }
+            var source = NONE; // the only adjacency with color c
+            for (var i = 0; source == NONE; i++) {
+                if (coloring[adjacencies[vertex][i]] == c) {
+                    source = adjacencies[vertex][i];
+                }
+            }
+            for (var d = 0; d < colors; d++) {
+                if (d != c && findChain(source, c, d)) {
+                    for (var i = 0; i < chainSize; i++) {
+                        assign(chain[i], coloring[chain[i]] == c ? d : c);
+                    }
+                    return c;
+                }
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Collects the Kempe chain of the colors c and d which contains the source with color c
+     *
+     * @return whether the chain is small enough and does not contain an adjacency of the recolored vertex with color d
+     */
+    private boolean findChain(int source, int c, int d) {
+        visit++;
+        visits[source] = visit;
+        chain[0] = source;
+        chainSize = 1;
+        for (var head = 0; head < chainSize; head++) {
+            var vertex = chain[head];
+            var other = coloring[vertex] == c ? d : c;
+            for (var i = 0; i < degrees[vertex]; i++) {
+                var adjacency = adjacencies[vertex][i];
+                if (coloring[adjacency] != other || visits[adjacency] == visit) {
+                    continue;
+                }
+                if (other == d && neighbourMarks[adjacency] == neighbourMark) {
+                    return false; // this adjacency of the recolored vertex would get color c
+                }
+                if (chainSize == MAX_CHAIN_SIZE) {
+                    return false;
+                }
+                visits[adjacency] = visit;
+                chain[chainSize++] = adjacency;
+            }
+        }
+        return true;
+    }
+
+    private void assign(int vertex, int color) {
+        coloring[vertex] = color;
+        recolorings++;
+    }
+
+    /**
+     * Improves the coloring of the region around the vertices of the failed local searches with a Tabucol search with the current amount of
+     * colors, while the vertices outside of the region keep their colors. The region grows by {@link #REGION_RADIUS} levels of adjacencies up
+     * to {@link #MAX_REGION_SIZE} vertices.<br>
+     * The colors of the outside vertices are constraints of the search: the searched graph additionally contains one anchor vertex per color,
+     * the anchors are all adjacent to each other, and each region vertex is adjacent to the anchors of the colors of its outside adjacencies.
+     * Without conflicts, the anchors have distinct colors, so renaming the color of each anchor back to its own color yields a coloring of the
+     * region which is valid together with the outside vertices
+     *
+     * @return whether the region has been colored without conflicts, otherwise the coloring is unchanged
+     */
+    private boolean repairRegion() {
+        if (colors == 0 || regionSize > MAX_REGION_SIZE) {
+            return false;
+        }
+        var levelStart = 0;
+        for (var level = 0; level < REGION_RADIUS; level++) {
+            var levelEnd = regionSize;
+            for (var i = levelStart; i < levelEnd && regionSize < MAX_REGION_SIZE; i++) {
+                var vertex = region[i];
+                for (var j = 0; j < degrees[vertex] && regionSize < MAX_REGION_SIZE; j++) {
+                    addToRegion(adjacencies[vertex][j]);
+                }
+            }
+            levelStart = levelEnd;
+        }
+
+        // edges of the searched graph as pairs of indices, the region vertices are 0 to regionSize - 1 and the anchors follow them
+        var edges = new int[2 * (regionSize + colors)];
+        var edgeCount = 0;
+        if (colorCounts.length < colors) {
+            colorCounts = new int[Math.max(colors, 2 * colorCounts.length)];
+        }
+        for (var i = 0; i < regionSize; i++) {
+            var vertex = region[i];
+            Arrays.fill(colorCounts, 0, colors, 0);
+            for (var j = 0; j < degrees[vertex]; j++) {
+                var adjacency = adjacencies[vertex][j];
+                int other;
+                if (regionMarks[adjacency] == regionMark) {
+                    other = regionIndices[adjacency];
+                    if (other < i) {
+                        continue; // the edge has already been added from the other endpoint
+                    }
+                } else {
+                    var color = coloring[adjacency];
+                    if (color == Vertex.NO_COLOR) {
+                        return false; // an uncolored vertex outside of the region cannot be a constraint
+                    }
+                    if (colorCounts[color]++ > 0) {
+                        continue;
+                    }
+                    other = regionSize + color;
+                }
+                if (2 * edgeCount + 2 > edges.length) {
+                    edges = Arrays.copyOf(edges, 2 * edges.length);
+                }
+                edges[2 * edgeCount] = i;
+                edges[2 * edgeCount++ + 1] = other;
+            }
+        }
+        for (var first = 0; first < colors; first++) {
+            for (var second = first + 1; second < colors; second++) {
+                if (2 * edgeCount + 2 > edges.length) {
+                    edges = Arrays.copyOf(edges, 2 * edges.length);
+                }
+                edges[2 * edgeCount] = regionSize + first;
+                edges[2 * edgeCount++ + 1] = regionSize + second;
+            }
+        }
+
+        var size = regionSize + colors;
+        var offsets = new int[size + 1];
+        for (var i = 0; i < 2 * edgeCount; i++) {
+            offsets[edges[i] + 1]++;
+        }
+        for (var i = 0; i < size; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        var fill = Arrays.copyOf(offsets, size);
+        var neighbours = new int[2 * edgeCount];
+        for (var i = 0; i < edgeCount; i++) {
+            neighbours[fill[edges[2 * i]]++] = edges[2 * i + 1];
+            neighbours[fill[edges[2 * i + 1]]++] = edges[2 * i];
+        }
+        var vertexIds = new int[size];
+        var regionColoring = new int[size];
+        for (var i = 0; i < regionSize; i++) {
+            vertexIds[i] = ids[region[i]];
+            regionColoring[i] = Math.max(0, coloring[region[i]]);
+        }
+        for (var color = 0; color < colors; color++) {
+            vertexIds[regionSize + color] = -1 - color; // the anchors are no vertices of the graph, their IDs are irrelevant
+            regionColoring[regionSize + color] = color;
+        }
+        if (Tabucol.improve(new Topology(offsets, neighbours, vertexIds), colors, regionColoring, REGION_TABU_ITERATIONS, random) > 0) {
+            return false;
+        }
+        var anchoredColors = new int[colors]; // color of the outside vertices which the anchor with each color represents
+        for (var color = 0; color < colors; color++) {
+            anchoredColors[regionColoring[regionSize + color]] = color;
+        }
+        for (var i = 0; i < regionSize; i++) {
+            var color = anchoredColors[regionColoring[i]];
+            if (coloring[region[i]] != color) {
+                assign(region[i], color);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Improves the coloring of the whole graph with the current amount of colors and adds colors if conflicts remain
+     *
+     * @return whether the current amount of colors has been sufficient
+     */
+    private boolean solveGlobally() {
+        var previousColors = colors;
+        var slotsOfIndices = presentSlots();
+        if (colors > 0) {
+            var topology = topology(slotsOfIndices);
+            var compactColoring = new int[slotsOfIndices.length];
+            for (var i = 0; i < slotsOfIndices.length; i++) {
+                compactColoring[i] = Math.max(0, coloring[slotsOfIndices[i]]); // uncolored vertices are just conflicts for the search
+            }
+            Tabucol.improve(topology, colors, compactColoring, GLOBAL_TABU_ITERATIONS, random);
+            for (var i = 0; i < slotsOfIndices.length; i++) {
+                if (coloring[slotsOfIndices[i]] != compactColoring[i]) {
+                    assign(slotsOfIndices[i], compactColoring[i]);
+                }
+            }
+        }
+        // the amount of colors has to grow: each vertex which still conflicts gets the first color none of its adjacencies has
+        for (var vertex : slotsOfIndices) {
+            if (conflicting(vertex)) {
+                coloring[vertex] = Vertex.NO_COLOR;
+                countAdjacentColors(vertex);
+                var color = freeColor();
+                if (color == NONE) {
+                    color = colors++;
+                }
+                assign(vertex, color);
+            }
+        }
+        return colors == previousColors;
+    }
+
+    /**
+     * @return slots of all vertices in ascending order, the position of a slot is the vertex's dense index in {@link #topology()}
+     */
+    private int[] presentSlots() {
+        var result = new int[slots.size()];
+        var index = 0;
+        for (var slot = 0; slot < slotCount; slot++) {
+            if (present[slot]) {
+                result[index++] = slot;
+            }
+        }
+        return result;
+    }
+
+    private Topology topology(int[] slotsOfIndices) {
+        var indices = new int[slotCount];
+        for (var i = 0; i < slotsOfIndices.length; i++) {
+            indices[slotsOfIndices[i]] = i;
+        }
+        var offsets = new int[slotsOfIndices.length + 1];
+        var vertexIds = new int[slotsOfIndices.length];
+        for (var i = 0; i < slotsOfIndices.length; i++) {
+            offsets[i + 1] = offsets[i] + degrees[slotsOfIndices[i]];
+            vertexIds[i] = ids[slotsOfIndices[i]];
+        }
+        var neighbours = new int[offsets[slotsOfIndices.length]];
+        for (var i = 0; i < slotsOfIndices.length; i++) {
+            var slot = slotsOfIndices[i];
+            for (var j = 0; j < degrees[slot]; j++) {
+                neighbours[offsets[i] + j] = indices[adjacencies[slot][j]];
+            }
+        }
+        return new Topology(offsets, neighbours, vertexIds);
+    }
+
+    private void ensureSlots(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        var length = Math.max(capacity, 2 * ids.length);
+        ids = Arrays.copyOf(ids, length);
+        adjacencies = Arrays.copyOf(adjacencies, length);
+        degrees = Arrays.copyOf(degrees, length);
+        coloring = Arrays.copyOf(coloring, length);
+        present = Arrays.copyOf(present, length);
+        pendingMarks = Arrays.copyOf(pendingMarks, length);
+        neighbourMarks = Arrays.copyOf(neighbourMarks, length);
+        visits = Arrays.copyOf(visits, length);
+        regionMarks = Arrays.copyOf(regionMarks, length);
+        regionIndices = Arrays.copyOf(regionIndices, length);
+    }
+
+    /**
+     * @return snapshot of the current vertices and edges, whose dense indices match {@link #colors()}
+     */
+    public Topology topology() {
+        return topology(presentSlots());
+    }
+
+    /**
+     * @return color index of each vertex, indexed by the dense indices of {@link #topology()}
+     */
+    public int[] colors() {
+        var slotsOfIndices = presentSlots();
+        var result = new int[slotsOfIndices.length];
+        for (var i = 0; i < slotsOfIndices.length; i++) {
+            result[i] = coloring[slotsOfIndices[i]];
+        }
+        return result;
+    }
+
+    /**
+     * @param id ID of a vertex
+     * @return color index of the vertex or {@link Vertex#NO_COLOR} if there is no such vertex
+     */
+    public int color(int id) {
+        var slot = slots.get(id);
+        return slot != null ? coloring[slot] : Vertex.NO_COLOR;
+    }
+
+    /**
+     * @param firstId  ID of a vertex
+     * @param secondId ID of another vertex
+     * @return whether both vertices exist and are adjacent
+     */
+    public boolean adjacent(int firstId, int secondId) {
+        var first = slots.get(firstId);
+        var second = slots.get(secondId);
+        if (first == null || second == null) {
+            return false;
+        }
+        var shorter = degrees[first] <= degrees[second] ? first : second;
+        var other = shorter.equals(first) ? second : first;
+        for (var i = 0; i < degrees[shorter]; i++) {
+            if (adjacencies[shorter][i] == other) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return amount of colors the coloring may use, which only grows if a repair cannot keep it
+     */
+    public int colorCount() {
+        return colors;
+    }
+
+    /**
+     * @return amount of vertices
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * @param recolorings amount of colors assigned to vertices by the repair
+     * @param colors      amount of colors the coloring may use after the batch
+     * @param escalation  last step of the repair which has run
+     * @param nanos       duration of applying the updates and repairing the coloring
+     */
+    public record Repair(int recolorings, int colors, Escalation escalation, long nanos) {
+    }
+
+    /**
+     * Steps of a repair after the local searches of the single vertices
+     */
+    public enum Escalation {
+        LOCAL, // the free colors, Kempe chains and local searches of the single vertices have been sufficient
+        REGION, // the region around the failed local searches has been searched
+        GLOBAL, // the whole graph has been searched with the current amount of colors
+        NEW_COLORS // the amount of colors has grown
+    }
+
+    /**
+     * Updates which are applied together by {@link #apply(Batch)} in the order in which they have been added.<br>
+     * Inserting an existing vertex or edge and removing a missing one is ignored, inserting an edge also inserts its missing endpoints
+     */
+    public static final class Batch {
+
+        private static final int ADD_VERTEX = 0;
+        private static final int REMOVE_VERTEX = 1;
+        private static final int ADD_EDGE = 2;
+        private static final int REMOVE_EDGE = 3;
+
+        private int[] operations = new int[3 * INITIAL_CAPACITY]; // type and up to two vertex IDs of each update
+        private int size;
+
+        public Batch addVertex(int id) {
+            return add(ADD_VERTEX, id, 0);
+        }
+
+        public Batch removeVertex(int id) {
+            return add(REMOVE_VERTEX, id, 0);
+        }
+
+        public Batch addEdge(int first, int second) {
+            if (first == second) {
+                throw new IllegalArgumentException("Vertex " + first + " cannot be adjacent to itself.");
+            }
+            return add(ADD_EDGE, first, second);
+        }
+
+        public Batch removeEdge(int first, int second) {
+            return add(REMOVE_EDGE, first, second);
+        }
+
+        private Batch add(int type, int first, int second) {
+            if (3 * size + 3 > operations.length) {
+                operations = Arrays.copyOf(operations, 2 * operations.length);
+            }
+            operations[3 * size] = type;
+            operations[3 * size + 1] = first;
+            operations[3 * size + 2] = second;
+            size++;
+            return this;
+        }
+
+        /**
+         * Removes all updates, so the batch can be reused
+         */
+        public void clear() {
+            size = 0;
+        }
+
+        /**
+         * @return amount of updates
+         */
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package graphcoloring;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Determines the minimum amount of colors (= chromatic number) with a branch and bound search based on DSatur: each node of the search tree
+ * colors the uncolored vertex with the highest saturation, and its branches are all colors which are used so far and not adjacent to the vertex,
+ * plus one new color. A branch is pruned as soon as it would need as many colors as the best coloring found so far.<br>
+ * The vertices of a greedy clique are colored with fixed colors before the search, which is both the lower bound and removes the symmetric
+ * solutions which only differ by the assignment of the color indices. The best of the heuristic colorings is the initial upper bound.<br>
+ * The adjacencies and the uncolored vertices are bitsets, so coloring a vertex only visits its uncolored adjacencies. The upper levels of the
+ * search tree are split into tasks of a fork-join pool, whose idle threads steal the remaining subtrees, while the lower levels are searched
+ * sequentially without recursion. All tasks share the best coloring found so far
+ */
+public final class ExactColoring {
+
+    private static final int NONE = -1;
+    private static final int MAX_VERTICES = 1 << 15; // the adjacency bitsets need vertices^2 / 8 bytes
+    private static final int CLIQUE_STARTS = 64;
+    private static final int TASKS_PER_THREAD = 64; // the search tree is split until there are roughly this many tasks per thread
+    private static final int DEADLINE_CHECK_INTERVAL = 1 << 12; // amount of nodes between two checks of the deadline
+
+    private final Topology topology;
+    private final int size;
+    private final int words;
+    private final long[][] adjacency;
+    private final int colorLimit; // amount of colors of the initial upper bound, no search node uses more colors
+    private final long targetWidth;
+    private final boolean hasDeadline;
+    private final long deadlineNanos;
+
+    private final AtomicInteger bestColors;
+    private int[] bestColoring; // guarded by this
+    private final LongAdder nodes = new LongAdder();
+    private final AtomicBoolean timedOut = new AtomicBoolean();
+    private final AtomicBoolean cancellation; // null if the search cannot be cancelled
+
+    private ExactColoring(Topology topology, int[] upperBound, Duration timeLimit, int parallelism, AtomicBoolean cancellation) {
+        this.topology = topology;
+        this.size = topology.size();
+        this.words = (size + Long.SIZE - 1) / Long.SIZE;
+        this.adjacency = new long[size][words];
+        for (var vertex = 0; vertex < size; vertex++) {
+            for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                var adjacency = topology.neighbour(i);
+                this.adjacency[vertex][adjacency >>> 6] |= 1L << adjacency;
+            }
+        }
+        this.bestColoring = upperBound;
+        this.bestColors = new AtomicInteger(GraphColoring.countColors(upperBound));
+        this.colorLimit = bestColors.get();
+        this.targetWidth = (long) parallelism * TASKS_PER_THREAD;
+        this.hasDeadline = timeLimit != null;
+        this.deadlineNanos = hasDeadline ? System.nanoTime() + timeLimit.toNanos() : 0;
+        this.cancellation = cancellation;
+    }
+
+    /**
+     * @param topology    topology of the graph, with at most 32768 vertices
+     * @param timeLimit   maximum duration of the search or null for no limit
+     * @param parallelism amount of threads of the search
+     * @return coloring with the minimum amount of colors, or the best coloring found if the time limit has been reached
+     */
+    public static Result solve(Topology topology, Duration timeLimit, int parallelism) {
+        return solve(topology, timeLimit, parallelism, null);
+    }
+
+    /**
+     * @param cancellation flag which stops the search like the time limit once it is set or null
+     * @see #solve(Topology, Duration, int)
+     */
+    public static Result solve(Topology topology, Duration timeLimit, int parallelism, AtomicBoolean cancellation) {
+        if (topology.size() > MAX_VERTICES) {
+            throw new IllegalArgumentException("The exact search supports at most " + MAX_VERTICES + " vertices.");
+        }
+        var start = System.nanoTime();
+        var clique = ColorSearch.greedyClique(topology, CLIQUE_STARTS);
+        var upperBound = ColorSearch.upperBound(topology);
+        var search = new ExactColoring(topology, upperBound, timeLimit, parallelism, cancellation);
+        if (search.bestColors.get() > clique.length) {
+            var root = search.new State();
+            for (var color = 0; color < clique.length; color++) {
+                root.assign(clique[color], color);
+            }
+            var pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(search.new Task(root, 1));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        var colors = search.bestColors.get();
+        Proof proof;
+        if (colors == clique.length) {
+            proof = Proof.CLIQUE;
+        } else {
+            proof = search.timedOut.get() ? Proof.NONE : Proof.EXHAUSTIVE_SEARCH;
+        }
+        synchronized (search) {
+            return new Result(colors, search.bestColoring, clique.length, clique, proof, search.nodes.sum(), System.nanoTime() - start);
+        }
+    }
+
+    private synchronized void record(State state) {
+        if (state.used < bestColors.get()) {
+            bestColoring = state.coloring.clone();
+            bestColors.set(state.used);
+        }
+    }
+
+    /**
+     * @return whether the deadline has been reached or the search has been cancelled, which stops all tasks
+     */
+    private boolean expired() {
+        if (hasDeadline && System.nanoTime() - deadlineNanos >= 0 || cancellation != null && cancellation.get()) {
+            timedOut.set(true);
+        }
+        return timedOut.get();
+    }
+
+    /**
+     * Subtree of the search, which is either split into one task per branch or searched sequentially. The tasks are never serialized
+     */
+    @SuppressWarnings("serial")
+    private final class Task extends RecursiveAction {
+
+        private final ExactColoring.State state; // qualified, since ForkJoinTask inherits Future.State since Java 19
+        private final long width; // amount of tasks on the level of this task, as estimated by the product of the branching factors above
+
+        Task(ExactColoring.State state, long width) {
+            this.state = state;
+            this.width = width;
+        }
+
+        @Override
+        protected void compute() {
+            if (expired()) {
+                return;
+            }
+            if (width >= targetWidth || state.colored == size) {
+                search(state);
+                return;
+            }
+            nodes.increment();
+            if (state.used >= bestColors.get()) {
+                return;
+            }
+            var vertex = state.select();
+            var best = bestColors.get();
+            var colors = new int[colorLimit]; // no node uses more colors than the initial upper bound
+            var amount = 0;
+            for (var color = state.nextColor(vertex, 0, best); color != NONE; color = state.nextColor(vertex, color + 1, best)) {
+                colors[amount++] = color;
+            }
+            var childWidth = width * Math.max(2, amount); // grows even with one branch, so the splitting ends
+            var branches = new Task[amount];
+            for (var i = 0; i < amount; i++) {
+                var child = state.copy();
+                child.assign(vertex, colors[i]);
+                branches[i] = new Task(child, childWidth);
+            }
+            invokeAll(branches);
+        }
+    }
+
+    /**
+     * Searches the subtree of the state depth first, the state is changed during the search
+     */
+    private void search(State state) {
+        var base = state.colored; // depth of the subtree's root, which equals the amount of colored vertices
+        var vertices = new int[size + 1]; // vertex colored on each depth or NONE if the node has no branches
+        var nextColors = new int[size + 1]; // lowest color on each depth which has not been tried yet
+        var depth = base;
+        var localNodes = 0L;
+        while (true) {
+            // enters the node on the current depth
+            if (++localNodes % DEADLINE_CHECK_INTERVAL == 0) {
+                nodes.add(DEADLINE_CHECK_INTERVAL);
+                if (expired()) {
+                    return;
+                }
+            }
+            vertices[depth] = NONE;
+            if (state.colored == size) {
+                record(state);
+            } else if (state.used < bestColors.get()) {
+                vertices[depth] = state.select();
+                nextColors[depth] = 0;
+            }
+
+            // continues with the next branch of the deepest node which has one left, undoing the colors of the nodes without branches
+            while (true) {
+                if (vertices[depth] != NONE) {
+                    var color = state.nextColor(vertices[depth], nextColors[depth], bestColors.get());
+                    if (color != NONE) {
+                        nextColors[depth] = color + 1;
+                        state.assign(vertices[depth], color);
+                        depth++;
+                        break;
+                    }
+                }
+                if (depth == base) {
+                    nodes.add(localNodes % DEADLINE_CHECK_INTERVAL);
+                    return;
+                }
+                depth--;
+                state.unassign(vertices[depth]);
+            }
+        }
+    }
+
+    /**
+     * Partial coloring of a search node.<br>
+     * For each uncolored vertex, the amount of colored adjacencies per color is counted. A colored vertex's counters are not updated, but since the
+     * vertices are uncolored in the reverse order of their coloring, all changes which have not been counted are undone before it is uncolored again
+     */
+    private final class State {
+
+        private final int[] coloring;
+        private final int[] adjacentColors; // amount of colored adjacencies of each vertex (row) with each color (column)
+        private final int[] saturations; // amount of different colors of each vertex's colored adjacencies
+        private final int[] classSizes; // amount of vertices with each color
+        private final long[] uncolored;
+        private int used; // amount of used colors, the used colors are always 0 to used - 1
+        private int colored;
+
+        State() {
+            coloring = new int[size];
+            Arrays.fill(coloring, Vertex.NO_COLOR);
+            adjacentColors = new int[size * colorLimit];
+            saturations = new int[size];
+            classSizes = new int[colorLimit];
+            uncolored = new long[words];
+            Arrays.fill(uncolored, -1L);
+            if (size % Long.SIZE != 0) {
+                uncolored[words - 1] = (1L << size) - 1;
+            }
+        }
+
+        private State(State state) {
+            coloring = state.coloring.clone();
+            adjacentColors = state.adjacentColors.clone();
+            saturations = state.saturations.clone();
+            classSizes = state.classSizes.clone();
+            uncolored = state.uncolored.clone();
+            used = state.used;
+            colored = state.colored;
+        }
+
+        State copy() {
+            return new State(this);
+        }
+
+        void assign(int vertex, int color) {
+            coloring[vertex] = color;
+            uncolored[vertex >>> 6] &= ~(1L << vertex);
+            colored++;
+            if (classSizes[color]++ == 0) {
+                used++;
+            }
+            var bits = adjacency[vertex];
+            for (var word = 0; word < words; word++) {
+                for (var adjacencies = bits[word] & uncolored[word]; adjacencies != 0; adjacencies &= adjacencies - 1) {
+                    var adjacency = word * Long.SIZE + Long.numberOfTrailingZeros(adjacencies);
+                    if (adjacentColors[adjacency * colorLimit + color]++ == 0) {
+                        saturations[adjacency]++;
+                    }
+                }
+            }
+        }
+
+        void unassign(int vertex) {
+            var color = coloring[vertex];
+            var bits = adjacency[vertex];
+            for (var word = 0; word < words; word++) {
+                for (var adjacencies = bits[word] & uncolored[word]; adjacencies != 0; adjacencies &= adjacencies - 1) {
+                    var adjacency = word * Long.SIZE + Long.numberOfTrailingZeros(adjacencies);
+                    if (--adjacentColors[adjacency * colorLimit + color] == 0) {
+                        saturations[adjacency]--;
+                    }
+                }
+            }
+            if (--classSizes[color] == 0) {
+                used--; // the colors are introduced in ascending order, so the color of the last vertex with a new color is the highest one
+            }
+            colored--;
+            uncolored[vertex >>> 6] |= 1L << vertex;
+            coloring[vertex] = Vertex.NO_COLOR;
+        }
+
+        /**
+         * @return uncolored vertex with the highest saturation, with the highest degree among equal saturations
+         */
+        int select() {
+            var selected = NONE;
+            for (var word = 0; word < words; word++) {
+                for (var bits = uncolored[word]; bits != 0; bits &= bits - 1) {
+                    var vertex = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    if (selected == NONE || saturations[vertex] > saturations[selected]
+                            || saturations[vertex] == saturations[selected] && topology.degree(vertex) > topology.degree(selected)) {
+                        selected = vertex;
+                    }
+                }
+            }
+            return selected;
+        }
+
+        /**
+         * @param vertex     vertex to color
+         * @param from       lowest color to consider
+         * @param bestColors amount of colors of the best coloring so far, only colorings with less colors are searched
+         * @return lowest color from the given one which is not adjacent to the vertex, or NONE
+         */
+        int nextColor(int vertex, int from, int bestColors) {
+            var limit = Math.min(used, bestColors - 2); // a new color (= used) is only allowed if the coloring still has less colors than the best one
+            for (var color = from; color <= limit; color++) {
+                if (adjacentColors[vertex * colorLimit + color] == 0) {
+                    return color;
+                }
+            }
+            return NONE;
+        }
+    }
+
+    public enum Proof {
+        CLIQUE, // the graph contains a clique with as many vertices as colors
+        EXHAUSTIVE_SEARCH, // the search found no coloring with less colors
+        NONE // the time limit has been reached or the search has been cancelled, so the amount of colors is only an upper bound
+    }
+
+    /**
+     * @param colors     minimum amount of colors, unless the proof is {@link Proof#NONE}
+     * @param coloring   color index of each vertex with this amount of colors (= certificate)
+     * @param lowerBound size of the clique
+     * @param clique     dense indices of the vertices of a clique
+     * @param proof      why no coloring with less colors exists
+     * @param nodes      amount of visited search nodes
+     * @param nanos      duration of the whole solution including the bounds
+     */
+    public record Result(int colors, int[] coloring, int lowerBound, int[] clique, Proof proof, long nodes, long nanos) {
+
+        public boolean optimal() {
+            return proof != Proof.NONE;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package graphcoloring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event of one generation of the genetic algorithm, its duration is the duration of the generation
+ *
+ * @see GenerationMetrics
+ */
+@Name("graphcoloring.Generation")
+@Label("Generation")
+@Category({"Graph Coloring", "Genetic Algorithm"})
+@Description("One generation of the genetic algorithm")
+class GenerationEvent extends Event {
+
+    @Label("Island")
+    int island;
+
+    @Label("Generation")
+    int generation;
+
+    @Label("Population Size")
+    int populationSize;
+
+    @Label("Best Fitness")
+    int bestFitness;
+
+    @Label("Mean Fitness")
+    double meanFitness;
+
+    @Label("Best Conflicts")
+    int bestConflicts;
+
+    @Label("Diversity")
+    @Description("Mean share of genes which differ from the chromosome with the highest fitness")
+    double diversity;
+
+    @Label("Evaluations per Second")
+    double evaluationsPerSecond;
+
+    @Label("Selection")
+    @Timespan
+    long selectionNanos;
+
+    @Label("Crossover")
+    @Timespan
+    long crossoverNanos;
+
+    @Label("Mutation")
+    @Timespan
+    long mutationNanos;
+
+    @Label("Local Search")
+    @Timespan
+    long localSearchNanos;
+}
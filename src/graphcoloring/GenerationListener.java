@@ -0,0 +1,19 @@
+package graphcoloring;
+
+/**
+ * Receives the metrics of each generation of the genetic algorithm, configured with the argument "generationListener".
+ * With the island model, the listener is called by the threads of all islands at the same time
+ *
+ * @see GenerationMetrics
+ */
+@FunctionalInterface
+public interface GenerationListener {
+
+    /**
+     * Listener which ignores all metrics, if no JFR recording is running either, the metrics are not even measured
+     */
+    GenerationListener NONE = metrics -> {
+    };
+
+    void onGeneration(GenerationMetrics metrics);
+}
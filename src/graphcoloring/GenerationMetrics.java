@@ -0,0 +1,25 @@
+package graphcoloring;
+
+/**
+ * Metrics of one generation of the genetic algorithm.<br>
+ * The phase timings are summed over all children, so with a parallelism above 1 they can exceed the duration of the generation
+ *
+ * @param island               index of the island or 0 if there is only one population
+ * @param generation           number of the generation, the initial population is generation 0
+ * @param populationSize       amount of chromosomes of the generation
+ * @param bestFitness          highest fitness of the generation
+ * @param meanFitness          mean fitness of the generation
+ * @param bestConflicts        conflicts of the chromosome with the highest fitness
+ * @param diversity            mean share of genes which differ from the chromosome with the highest fitness, from 0 (all equal) to 1, colorings which only differ
+ *                             by the assignment of the color indices count as different
+ * @param evaluationsPerSecond chromosomes created and evaluated per second during this generation
+ * @param selectionNanos       duration of the tournament selection
+ * @param crossoverNanos       time spent in crossovers
+ * @param mutationNanos        time spent in mutations
+ * @param localSearchNanos     time spent in the local search of the memetic mode
+ * @param generationNanos      duration of the whole generation
+ */
+public record GenerationMetrics(int island, int generation, int populationSize, int bestFitness, double meanFitness, int bestConflicts,
+                                double diversity, double evaluationsPerSecond, long selectionNanos, long crossoverNanos, long mutationNanos,
+                                long localSearchNanos, long generationNanos) {
+}
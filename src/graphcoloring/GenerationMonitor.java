@@ -0,0 +1,112 @@
+package graphcoloring;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.EventType;
+
+/**
+ * Measures the generations of one population and passes their metrics to the {@link GenerationListener} of the argument "generationListener"
+ * and to {@link GenerationEvent}s.<br>
+ * If there is no listener and no JFR recording of the event, a generation is not measured at all, so the only overhead is one check per generation
+ */
+final class GenerationMonitor {
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(GenerationEvent.class);
+
+    private final GenerationListener listener;
+    private final int island;
+
+    /**
+     * @param args   the JVM arguments
+     * @param island index of the island or 0 if there is only one population
+     */
+    GenerationMonitor(Map<String, Object> args, int island) {
+        this.listener = (GenerationListener) args.getOrDefault("generationListener", GenerationListener.NONE);
+        this.island = island;
+    }
+
+    /**
+     * @return timings of the generation which starts now or null if the generation is not measured
+     */
+    Timings start() {
+        // checks the event type instead of an event, so an unmeasured generation does not allocate anything
+        if (listener == GenerationListener.NONE && !EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+        var event = new GenerationEvent();
+        event.begin();
+        return new Timings(event);
+    }
+
+    /**
+     * Determines the metrics of the generation and publishes them
+     *
+     * @param timings    timings of the generation or null if it is not measured
+     * @param generation number of the generation
+     * @param population chromosomes of the generation
+     */
+    void finish(Timings timings, int generation, Population population) {
+        if (timings == null) {
+            return;
+        }
+        var generationNanos = System.nanoTime() - timings.start;
+        var chromosomes = population.chromosomes();
+        var best = population.best(1).get(0);
+        var fitnessSum = 0L;
+        var differentGenes = 0L;
+        for (var chromosome : chromosomes) {
+            fitnessSum += chromosome.fitness();
+            differentGenes += differentGenes(chromosome.genes(), best.genes());
+        }
+        var genes = (double) chromosomes.size() * best.genes().length;
+        var metrics = new GenerationMetrics(island, generation, chromosomes.size(), best.fitness(), (double) fitnessSum / chromosomes.size(),
+                best.conflicts(), genes == 0 ? 0 : differentGenes / genes, chromosomes.size() * 1e9 / Math.max(1, generationNanos),
+                timings.selectionNanos, timings.crossoverNanos.sum(), timings.mutationNanos.sum(), timings.localSearchNanos.sum(), generationNanos);
+        listener.onGeneration(metrics);
+
+        var event = timings.event;
+        event.end();
+        if (event.shouldCommit()) {
+            event.island = metrics.island();
+            event.generation = metrics.generation();
+            event.populationSize = metrics.populationSize();
+            event.bestFitness = metrics.bestFitness();
+            event.meanFitness = metrics.meanFitness();
+            event.bestConflicts = metrics.bestConflicts();
+            event.diversity = metrics.diversity();
+            event.evaluationsPerSecond = metrics.evaluationsPerSecond();
+            event.selectionNanos = metrics.selectionNanos();
+            event.crossoverNanos = metrics.crossoverNanos();
+            event.mutationNanos = metrics.mutationNanos();
+            event.localSearchNanos = metrics.localSearchNanos();
+            event.commit();
+        }
+    }
+
+    private static int differentGenes(short[] genes, short[] otherGenes) {
+        var different = 0;
+        for (var i = 0; i < genes.length; i++) {
+            if (genes[i] != otherGenes[i]) {
+                different++;
+            }
+        }
+        return different;
+    }
+
+    /**
+     * Durations of the phases of one generation, the phases of the children are summed up by the threads which create them
+     */
+    static final class Timings {
+
+        private final GenerationEvent event;
+        private final long start = System.nanoTime();
+        long selectionNanos;
+        final LongAdder crossoverNanos = new LongAdder();
+        final LongAdder mutationNanos = new LongAdder();
+        final LongAdder localSearchNanos = new LongAdder();
+
+        private Timings(GenerationEvent event) {
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package graphcoloring;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+
+public class Graph {
+
+    private List<Vertex> vertices; // created on demand if the graph has been created from a topology
+    private final Topology topology;
+    private final int[] coloring; // current color index of each vertex, indexed by the vertices' dense indices
+
+    public Graph(List<Vertex> vertices) {
+        this(Topology.of(vertices));
+        this.vertices = vertices;
+    }
+
+    /**
+     * Creates a graph which only consists of its topology, e.g. a loaded graph. The vertices are only created if they are requested
+     *
+     * @param topology topology of the graph
+     * @see GraphLoader
+     */
+    public Graph(Topology topology) {
+        this.topology = topology;
+        this.coloring = new int[topology.size()];
+        Arrays.fill(coloring, Vertex.NO_COLOR);
+    }
+
+    /**
+     * This constructor only exists in order to make it easier to set a graph up (see {@link GraphColoring#setupGraph()})
+     *
+     * @param vertices vertices of the graph
+     */
+    public Graph(Vertex... vertices) {
+        this(List.of(vertices));
+    }
+
+    /**
+     * Starts at the first vertex and colors from it its adjacencies, then their adjacencies and so on, continuing with the next connected
+     * component until all vertices are colored
+     *
+     * @param colors amount of available colors
+     * @return whether the algorithm succeeded or not
+     */
+    public boolean greedyAlgorithm(int colors) {
+        return greedyAlgorithm(colors, GreedyColoring.Ordering.BFS);
+    }
+
+    /**
+     * @param colors   amount of available colors
+     * @param ordering order in which the vertices are colored
+     * @return whether the algorithm succeeded or not
+     * @see GreedyColoring
+     */
+    public boolean greedyAlgorithm(int colors, GreedyColoring.Ordering ordering) {
+        return GreedyColoring.color(topology, ordering, colors, coloring);
+    }
+
+    /**
+     * Colors all vertices with the DSatur algorithm
+     *
+     * @return amount of used colors
+     * @see DSatur
+     */
+    public int dsaturAlgorithm() {
+        var result = DSatur.color(topology);
+        System.arraycopy(result, 0, coloring, 0, coloring.length);
+        return GraphColoring.countColors(coloring);
+    }
+
+    /**
+     * Checks for every vertex of the topology if its color is the same as one of its adjacencies
+     *
+     * @param topology topology of the graph
+     * @param colors   color index of each vertex, indexed by the vertices' dense indices, or {@link Vertex#NO_COLOR} if a vertex is not colored
+     * @return whether the graph is valid or not
+     */
+    public static boolean validate(Topology topology, int[] colors) {
+        for (var vertex = 0; vertex < topology.size(); vertex++) {
+            if (colors[vertex] == Vertex.NO_COLOR) {
+                return false;
+            }
+            for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                if (colors[vertex] == colors[topology.neighbour(i)]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks for every vertex of the topology if its color index is the same as one of its adjacencies' color index
+     *
+     * @param topology topology of the graph
+     * @param colors   color index of each vertex, indexed by the vertices' dense indices, or {@link Vertex#NO_COLOR} if a vertex is not colored
+     * @return whether the graph is valid or not
+     */
+    public static boolean validate(Topology topology, short[] colors) {
+        for (var vertex = 0; vertex < topology.size(); vertex++) {
+            if (colors[vertex] == Vertex.NO_COLOR) {
+                return false;
+            }
+            for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                if (colors[vertex] == colors[topology.neighbour(i)]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the genetic algorithm until it finds a valid coloring or reaches the maximum amount of generations
+     *
+     * @param args   the JVM arguments
+     * @param colors amount of available colors
+     * @return solution of this algorithm
+     * @see #geneticAlgorithm(Map, int, Termination)
+     */
+    public Chromosome geneticAlgorithm(Map<String, Object> args, int colors) {
+        return geneticAlgorithm(args, colors, Termination.none()).best();
+    }
+
+    /**
+     * The optional arguments "seed" (Long) and "parallelism" (Integer) determine the random number generator and the amount of threads
+     * used for each generation. With a single population and the same seed, the algorithm always returns the same result, independent of the
+     * parallelism.<br>
+     * If the optional argument "islands" (Integer) is greater than 1, the {@link IslandModel} is used instead of a single population. Its result
+     * is not reproducible by the seed, since which migrants an island receives depends on the scheduling of the islands' threads.<br>
+     * The initial population is seeded with heuristic colorings by the optional arguments of {@link WarmStart}.<br>
+     * The generations are created by {@link PopulationBuffers}, which also describes the arguments of the operators.<br>
+     * The optional argument "generationListener" ({@link GenerationListener}) receives the metrics of each generation, which are also recorded
+     * as {@link GenerationEvent}s if JFR is running.<br>
+     * If the optional argument "checkpointDirectory" (Path) is present, the state of the run is written periodically as a {@link Checkpoint},
+     * and with the argument "resume" (Boolean) a run continues from its checkpoint with the same result as without the interruption.<br>
+     * Besides the maximum amount of generations and a population which shrank to one chromosome, the termination determines when the algorithm
+     * stops, in any case it returns the best chromosome found so far
+     *
+     * @param args        the JVM arguments
+     * @param colors      amount of available colors
+     * @param termination additional conditions to stop the algorithm
+     * @return best chromosome found, with the reason why the algorithm stopped
+     * @throws IllegalArgumentException if there are more than {@link Chromosome#MAX_COLORS} colors
+     */
+    public Solution geneticAlgorithm(Map<String, Object> args, int colors, Termination termination) {
+        if (colors > Chromosome.MAX_COLORS) {
+            throw new IllegalArgumentException("The genetic algorithm supports at most " + Chromosome.MAX_COLORS + " colors.");
+        }
+        var random = args.containsKey("seed") ? new SplittableRandom((long) args.get("seed")) : new SplittableRandom();
+        if ((int) args.getOrDefault("islands", 1) > 1) {
+            if (args.containsKey("checkpointDirectory")) {
+                throw new IllegalArgumentException("The island model does not support checkpoints.");
+            }
+            return new IslandModel(this, args, colors, termination).run(random);
+        }
+        var monitor = new GenerationMonitor(args, 0);
+        try (var workers = new Workers((int) args.getOrDefault("parallelism", 1));
+             var checkpoint = checkpoint(args, colors)) {
+            var resumed = checkpoint != null && (boolean) args.getOrDefault("resume", false) ? checkpoint.read() : null;
+            Population population;
+            SplitMix64 generator; // draws the seeds of the generations, its state is part of the checkpoints
+            Chromosome best;
+            var lastImprovement = 0; // generation in which the best chromosome has been found
+            var generation = 0;
+            if (resumed == null) {
+                var timings = monitor.start();
+                // creates the initial population
+                population = new Population(this, (int) args.get("initialPopulationSize"), colors, random, workers,
+                        (WarmStart.Strategy) args.getOrDefault("seeding", WarmStart.Strategy.RANDOM), (double) args.getOrDefault("seedingPercentage", 0.5));
+                monitor.finish(timings, 0, population);
+                generator = new SplitMix64(random.nextLong());
+                best = null;
+            } else {
+                population = resumed.chromosomes();
+                generator = new SplitMix64(resumed.generatorState());
+                best = resumed.best();
+                lastImprovement = resumed.lastImprovement();
+                generation = resumed.generation();
+            }
+            var buffers = new PopulationBuffers(population, args, workers);
+            if (best == null) {
+                best = buffers.best().copy(); // the slots of the buffers are overwritten by later generations
+            }
+            // no crossover possible with one chromosome, e.g. if a resumed run had already stopped because its population had shrunk to one
+            var reason = buffers.size() == 1 ? Termination.Reason.EXHAUSTED : termination.check(best, generation - lastImprovement);
+            // generates new generations until maxGenerationAmount is reached, the current generation only consists of one chromosome
+            // or the termination stops the algorithm
+            while (reason == null) {
+                if (generation + 1 >= (int) args.get("maxGenerationAmount")) {
+                    reason = Termination.Reason.EXHAUSTED;
+                    break;
+                }
+                // the chromosomes' fitness has already been determined incrementally by the crossovers and mutations
+                var timings = monitor.start();
+                buffers.advance(generator, timings);
+                generation++;
+                if (timings != null) {
+                    monitor.finish(timings, generation, buffers.population());
+                }
+                var generationBest = buffers.best();
+                if (generationBest.fitness() > best.fitness()) {
+                    best.copyFrom(generationBest);
+                    lastImprovement = generation;
+                }
+                // no crossover possible if only one chromosome is left
+                reason = buffers.size() == 1 ? Termination.Reason.EXHAUSTED : termination.check(best, generation - lastImprovement);
+                if (checkpoint != null && reason == null) {
+                    checkpoint.save(generation, lastImprovement, generator, buffers, best);
+                }
+            }
+            if (checkpoint != null) {
+                checkpoint.finish(generation, lastImprovement, generator, buffers, best);
+            }
+            return new Solution(best, generation, reason);
+        }
+    }
+
+    /**
+     * @return checkpoints of the run if the argument "checkpointDirectory" (Path) is present, written every "checkpointInterval" (Integer,
+     * default 100) generations, or null
+     * @see Checkpoint
+     */
+    private Checkpoint checkpoint(Map<String, Object> args, int colors) {
+        if (!args.containsKey("checkpointDirectory")) {
+            return null;
+        }
+        try {
+            return new Checkpoint((Path) args.get("checkpointDirectory"), topology, colors, (int) args.getOrDefault("attempt", 0),
+                    (int) args.getOrDefault("checkpointInterval", 100));
+        } catch (IOException e) {
+            throw new UncheckedIOException("The checkpoint directory cannot be created.", e);
+        }
+    }
+
+    public boolean valid() {
+        return validate(topology, coloring);
+    }
+
+    /**
+     * @return copy of the current color index of each vertex, indexed by the vertices' dense indices
+     */
+    public int[] colors() {
+        return coloring.clone();
+    }
+
+    public void resetGraph() {
+        Arrays.fill(coloring, Vertex.NO_COLOR);
+        if (vertices != null) {
+            vertices.forEach(Vertex::resetVertex);
+        }
+    }
+
+    /**
+     * @see Vertex#printInformation()
+     */
+    public void printInformation() {
+        printInformation(coloring);
+    }
+
+    /**
+     * Prints the given coloring of this graph
+     *
+     * @param colors color index of each vertex, indexed by the vertices' dense indices
+     * @see Vertex#printInformation()
+     */
+    public void printInformation(int[] colors) {
+        var vertices = vertices();
+        for (var i = 0; i < vertices.size(); i++) {
+            vertices.get(i).color(colors[i]);
+        }
+        vertices.stream().sorted(Comparator.comparing(Vertex::id)).forEach(Vertex::printInformation);
+    }
+
+    /**
+     * @return vertices of this graph, which are created from the topology on the first call if the graph has been created from a topology
+     */
+    public List<Vertex> vertices() {
+        if (vertices == null) {
+            var createdVertices = new ArrayList<Vertex>(topology.size());
+            for (var i = 0; i < topology.size(); i++) {
+                createdVertices.add(Vertex.of(topology.id(i), coloring[i]));
+            }
+            for (var i = 0; i < topology.size(); i++) {
+                var adjacencies = new ArrayList<Vertex>(topology.degree(i));
+                for (var j = topology.start(i); j < topology.end(i); j++) {
+                    adjacencies.add(createdVertices.get(topology.neighbour(j)));
+                }
+                createdVertices.get(i).adjacencies(adjacencies);
+            }
+            vertices = createdVertices;
+        }
+        return vertices;
+    }
+
+    public Topology topology() {
+        return topology;
+    }
+}
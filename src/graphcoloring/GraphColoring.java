@@ -0,0 +1,605 @@
+package graphcoloring;
+
+import me.tongfei.progressbar.ProgressBarBuilder;
+import me.tongfei.progressbar.ProgressBarStyle;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+public class GraphColoring {
+
+    private static final int CLIQUE_STARTS = 64; // amount of vertices a clique is grown from to determine the lower bound of colors
+    // arguments which determine whether a run of the genetic algorithm finds a coloring, so a failed amount of colors is cached for their values
+    private static final List<String> GENETIC_SETTINGS = List.of("maxGenerationAmount", "initialPopulationSize", "tournamentSelectionPercentage",
+            "tournamentSizePercentage", "mutationPercentage", "mutationProbability", "seed", "islands", "migrationInterval", "migrantCount",
+            "migrationTopology", "tabuIterations", "timeLimitMillis", "stagnationGenerations", "crossoverName", "seeding", "seedingPercentage");
+
+    /**
+     * @param args for genetic algorithm use the following JVM arguments:<br>
+     *             Index 0: Amount of Generations (Integer)<br>
+     *             Index 1: Initial Population Size (Integer)<br>
+     *             Index 2: Tournament Selection Percentage (Double)<br>
+     *             Index 3: Tournament Size Percentage (Double)<br>
+     *             Index 4: Mutation Percentage (Double)<br>
+     *             Index 5: Mutation Probability (Double)<br>
+     *             Index 6: Amount of times the algorithm is executed (Integer)<br>
+     *             Optional named arguments in the form name=value:<br>
+     *             graph: DIMACS (.col), edge list or snapshot (.gsnap) file to load instead of the built-in graph, also for the greedy algorithm (String)<br>
+     *             format: "dimacs", "edge_list" or "snapshot" to override the format determined by the file extension (String)<br>
+     *             snapshot: file to which a {@link GraphSnapshot} of the loaded graph is written, also for the greedy algorithm (String)<br>
+     *             seed: Seed of the random number generator, each attempt uses the seed plus its index (Long)<br>
+     *             parallelism: Amount of threads used for each generation, default 1 (Integer)<br>
+     *             attemptParallelism: Amount of attempts executed at the same time, default the amount of processors (Integer)<br>
+     *             islands, migrationInterval, migrantCount, migrationTopology: see {@link IslandModel}<br>
+     *             colorSearch: "descending" or "bisection", see {@link ColorSearch.Strategy}, also for the greedy algorithm<br>
+     *             crossover: "one_point" (default) or "gpx", see {@link Crossover}<br>
+     *             timeLimitMillis: maximum duration of each run of the genetic algorithm, which then returns its best chromosome so far (Long)<br>
+     *             stagnationGenerations: amount of generations without improvement after which a run stops, default 0 = never (Integer)<br>
+     *             metrics: "true" to print the {@link GenerationMetrics} of each generation, default "false"<br>
+     *             tabuIterations: maximum amount of iterations of the {@link Tabucol} search which improves each child, default 0 = no improvement (Integer)<br>
+     *             seeding: "random" (default), "greedy", "dsatur" or "rlf" to seed the initial population with heuristic colorings, see {@link WarmStart}<br>
+     *             seedingPercentage: share of the initial population which is seeded, default 0.5 (Double)<br>
+     *             cache: directory of a {@link ResultCache}, which provides the colorings found by earlier runs for the same graph and the amounts
+     *             of colors with which they have failed with the same settings, and stores those of this run, shared by all attempts (String)<br>
+     *             cacheMegabytes: maximum size of the colorings the cache keeps in memory, default 64 (Integer)<br>
+     *             checkpoint: directory of the {@link Checkpoint}s of the runs, not with islands (String)<br>
+     *             checkpointInterval: amount of generations between two checkpoints, default 100 (Integer)<br>
+     *             resume: "true" to continue each run from its checkpoint, with the same result as without the interruption, default "false"
+     *             <br><br>
+     *             for greedy algorithm use no JVM arguments, optionally with the named arguments colorSearch and<br>
+     *             greedyOrdering: "bfs", "largest_first" or "smallest_last", see {@link GreedyColoring.Ordering}<br>
+     *             algorithm: "greedy" (default), "dsatur" to color the graph once with {@link DSatur} or "tabucol" to search the minimum amount of
+     *             colors with {@link Tabucol}, which uses the named arguments colorSearch, seed and tabuIterations (default 100000), or "exact" to
+     *             determine the minimum amount of colors with {@link ExactColoring}, which uses the named arguments timeLimitMillis and parallelism
+     *             (default the amount of processors)<br>
+     *             reduce: "true" to color only the kernels of the graph, see {@link Decomposition}, and to extend their colorings to the whole graph,
+     *             for all algorithms, default "false"
+     *             <br><br>
+     *             service: "stdin" or a port to run a {@link SolverService}, which reads jobs from the standard input or from connections to the
+     *             port on the loopback interface instead of coloring one graph, with the named arguments cache, cacheMegabytes and<br>
+     *             workers: amount of jobs solved at the same time, default the amount of processors (Integer)<br>
+     *             maxPendingJobs: maximum amount of jobs accepted at the same time, default 4 times the amount of workers (Integer)
+     */
+    public static void main(String[] args) {
+        var options = new HashMap<String, String>(); // named arguments
+        var positionalArgs = new ArrayList<String>(); // arguments identified by their index
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            } else {
+                positionalArgs.add(arg);
+            }
+        }
+        if (options.containsKey("service")) {
+            runService(options);
+            return;
+        }
+
+        var colorSearch = ColorSearch.Strategy.valueOf(options.getOrDefault("colorSearch", "descending").toUpperCase());
+        Graph graph;
+        if (options.containsKey("graph")) {
+            var path = Path.of(options.get("graph"));
+            var format = options.containsKey("format") ? GraphLoader.Format.valueOf(options.get("format").toUpperCase()) : GraphLoader.Format.of(path);
+            try {
+                graph = new Graph(GraphLoader.load(path, format));
+                if (options.containsKey("snapshot")) {
+                    GraphSnapshot.write(graph.topology(), Path.of(options.get("snapshot")));
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                System.out.println("The Graph cannot be loaded or saved: " + e.getMessage());
+                return;
+            }
+        } else {
+            graph = setupGraph();
+        }
+        if (graph.topology().hasDuplicateIds()) {
+            System.out.println("The Graph is invalid since there are multiple vertices with the same ID.");
+            return;
+        }
+        var decomposition = Boolean.parseBoolean(options.getOrDefault("reduce", "false")) ? Decomposition.of(graph.topology()) : null;
+        if (decomposition != null) {
+            System.out.printf("The graph has been reduced to %d of %d vertices in %d kernel(s), at least %d color(s) are necessary.%n",
+                    decomposition.kernelSize(), graph.topology().size(), decomposition.kernels().size(), decomposition.lowerBound());
+        }
+        if (positionalArgs.size() == 7) {
+            var arguments = geneticArguments(positionalArgs, options);
+            if (Boolean.parseBoolean(options.getOrDefault("metrics", "false"))) {
+                arguments.put("generationListener", (GenerationListener) System.out::println);
+            }
+            if (options.containsKey("cache")) {
+                try {
+                    arguments.put("resultCache", new ResultCache(Long.parseLong(options.getOrDefault("cacheMegabytes", "64")) << 20,
+                            Path.of(options.get("cache"))));
+                } catch (IOException e) {
+                    System.out.println("The cache cannot be created: " + e.getMessage());
+                    return;
+                }
+            }
+
+            var argsInfo = "Setup:\n" +
+                    "- Amount of Generations = " + arguments.get("maxGenerationAmount") + " (possible: " + getAmountOfGenerations(
+                    (int) arguments.get("initialPopulationSize"),
+                    (double) arguments.get("tournamentSelectionPercentage")) + ")\n" +
+                    "- Initial Population Size = " + arguments.get("initialPopulationSize") + "\n" +
+                    "- Tournament Selection Percentage = " + arguments.get("tournamentSelectionPercentage") + "\n" +
+                    "- Tournament Size Percentage = " + arguments.get("tournamentSizePercentage") + "\n" +
+                    "- Mutation Percentage = " + arguments.get("mutationPercentage") + "\n" +
+                    "- Mutation Probability = " + arguments.get("mutationProbability") + "\n" +
+                    "- Algorithm Attempts = " + arguments.get("algorithmAttempts") + "\n" +
+                    "- Seed = " + arguments.getOrDefault("seed", "random") + "\n" +
+                    "- Parallelism = " + arguments.get("parallelism") + "\n" +
+                    "- Attempt Parallelism = " + arguments.get("attemptParallelism") + "\n" +
+                    "- Islands = " + arguments.get("islands") + (1 < (int) arguments.get("islands") ? " (migration of " + arguments.get("migrantCount") +
+                    " chromosome(s) every " + arguments.get("migrationInterval") + " generations, " + arguments.get("migrationTopology") + " topology)" : "") + "\n" +
+                    "- Color Search = " + colorSearch + "\n" +
+                    "- Time Limit = " + (arguments.containsKey("timeLimitMillis") ? arguments.get("timeLimitMillis") + " ms per run" : "none") + "\n" +
+                    "- Stagnation Generations = " + arguments.get("stagnationGenerations") + "\n" +
+                    "- Crossover = " + arguments.get("crossoverName") + "\n" +
+                    "- Tabu Iterations = " + arguments.get("tabuIterations") + "\n" +
+                    "- Seeding = " + arguments.get("seeding") + (arguments.get("seeding") != WarmStart.Strategy.RANDOM ? " (" + arguments.get("seedingPercentage") + " of the initial population)" : "") + "\n" +
+                    "- Cache = " + options.getOrDefault("cache", "none") + "\n" +
+                    "- Checkpoints = " + options.getOrDefault("checkpoint", "none") + (Boolean.parseBoolean(options.getOrDefault("resume", "false")) ? " (resumed)" : "") + "\n";
+            System.out.println(argsInfo);
+
+            var attempts = (int) arguments.get("algorithmAttempts");
+            AttemptRunner.Result result;
+            try (var progressBar = new ProgressBarBuilder()
+                    .setTaskName("Genetic Algorithm Attempts")
+                    .setInitialMax(attempts)
+                    .setUpdateIntervalMillis(100)
+                    .setStyle(ProgressBarStyle.UNICODE_BLOCK)
+                    .build()) {
+                // the attempts do not share any mutable state, since each one creates its own populations from the unchanged graph
+                result = AttemptRunner.run(attempts, (int) arguments.get("attemptParallelism"), graph.topology().maxDegree() + 1, i -> {
+                    var attemptArguments = new HashMap<>(arguments);
+                    attemptArguments.put("attempt", i); // separates the checkpoints of the attempts
+                    if (arguments.containsKey("seed")) {
+                        attemptArguments.put("seed", (long) arguments.get("seed") + i); // otherwise every attempt would have the same result
+                    }
+                    if (decomposition != null) {
+                        return colorReduced(graph, decomposition, 1, attempts == 1,
+                                kernel -> minimumGeneticColoring(new Graph(decomposition.kernels().get(kernel)), attemptArguments));
+                    }
+                    return colorGraphGeneticWithMinimumColors(graph, attemptArguments, attempts == 1);
+                }, progressBar::step);
+            }
+
+            // every attempt starts from a valid heuristic coloring, so success means needing less colors than the heuristics
+            var upperBound = countColors(ColorSearch.upperBound(graph.topology()));
+            var results = new StringBuilder();
+            var improved = 0;
+            for (var colors = 1; colors < result.histogram().length; colors++) {
+                if (result.count(colors) > 0) {
+                    results.append("\n").append(colors).append(colors == 1 ? " Color: " : " Colors: ").append(result.count(colors));
+                }
+                if (colors < upperBound) {
+                    improved += result.count(colors);
+                }
+            }
+            System.out.println("\n" + improved + " out of " + result.attempts() + " time(s) the algorithm needed less than the " + upperBound
+                    + " colors of the heuristics! Results:" + results);
+            System.out.printf("Wall-clock time: %.1f ms, throughput: %.2f attempts/s, average attempt: %.1f ms%n",
+                    result.wallNanos() / 1e6, result.throughput(), result.averageAttemptMillis());
+        } else if (positionalArgs.isEmpty()) {
+            var parallelism = Integer.parseInt(options.getOrDefault("parallelism", String.valueOf(Runtime.getRuntime().availableProcessors())));
+            if (options.getOrDefault("algorithm", "greedy").equals("dsatur")) {
+                int colorAmount;
+                if (decomposition != null) {
+                    colorAmount = colorReduced(graph, decomposition, parallelism, true, kernel -> DSatur.color(decomposition.kernels().get(kernel)));
+                } else {
+                    colorAmount = graph.dsaturAlgorithm();
+                    graph.printInformation();
+                }
+                System.out.printf("\n%d color(s) are necessary to color the graph with the DSatur algorithm.", colorAmount);
+                return;
+            }
+            if (options.getOrDefault("algorithm", "greedy").equals("tabucol")) {
+                var random = options.containsKey("seed") ? new SplittableRandom(Long.parseLong(options.get("seed"))) : new SplittableRandom();
+                var iterations = Integer.parseInt(options.getOrDefault("tabuIterations", "100000"));
+                int colorAmount;
+                if (decomposition != null) {
+                    var randoms = Population.split(random, decomposition.kernels().size()); // the kernels are colored in parallel
+                    colorAmount = colorReduced(graph, decomposition, parallelism, true,
+                            kernel -> minimumTabuColoring(decomposition.kernels().get(kernel), colorSearch, iterations, randoms[kernel]));
+                } else {
+                    colorAmount = colorGraphTabuWithMinimumColors(graph, colorSearch, iterations, random);
+                }
+                System.out.printf("\n%d color(s) are necessary to color the graph with the Tabucol algorithm.", colorAmount);
+                return;
+            }
+            if (options.getOrDefault("algorithm", "greedy").equals("exact")) {
+                var timeLimit = options.containsKey("timeLimitMillis") ? Duration.ofMillis(Long.parseLong(options.get("timeLimitMillis"))) : null;
+                if (decomposition != null) {
+                    colorReducedExact(graph, decomposition, timeLimit, parallelism);
+                    return;
+                }
+                var result = ExactColoring.solve(graph.topology(), timeLimit, parallelism);
+                graph.printInformation(result.coloring());
+                if (result.optimal()) {
+                    System.out.printf("\n%d color(s) are necessary to color the graph, %d color(s) are impossible (%s, clique of size %d).",
+                            result.colors(), result.colors() - 1, result.proof() == ExactColoring.Proof.CLIQUE ? "clique" : "exhaustive search",
+                            result.lowerBound());
+                } else {
+                    System.out.printf("\nThe time limit has been reached: %d color(s) are sufficient, at least %d color(s) are necessary.",
+                            result.colors(), result.lowerBound());
+                }
+                System.out.printf("\nSearch nodes: %d, time: %.1f ms%n", result.nodes(), result.nanos() / 1e6);
+                return;
+            }
+            var ordering = GreedyColoring.Ordering.valueOf(options.getOrDefault("greedyOrdering", "bfs").toUpperCase());
+            var minimumColorAmount = decomposition != null
+                    ? colorReduced(graph, decomposition, parallelism, true,
+                    kernel -> minimumGreedyColoring(new Graph(decomposition.kernels().get(kernel)), colorSearch, ordering))
+                    : colorGraphGreedyWithMinimumColors(graph, colorSearch, ordering);
+            if (minimumColorAmount == 0) {
+                System.out.println("With the greedy algorithm the given graph cannot be colored.");
+            } else {
+                System.out.printf("\n%d color(s) are necessary to color the graph.", minimumColorAmount);
+            }
+        }
+    }
+
+    /**
+     * Runs a {@link SolverService} until the standard input ends or, if it listens on a port, until the process is stopped
+     *
+     * @param options named arguments of {@link #main(String[])}
+     */
+    private static void runService(Map<String, String> options) {
+        var workers = Integer.parseInt(options.getOrDefault("workers", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        var maxPendingJobs = Integer.parseInt(options.getOrDefault("maxPendingJobs", String.valueOf(4 * workers)));
+        try {
+            var cache = options.containsKey("cache")
+                    ? new ResultCache(Long.parseLong(options.getOrDefault("cacheMegabytes", "64")) << 20, Path.of(options.get("cache"))) : null;
+            try (var service = new SolverService(workers, maxPendingJobs, cache)) {
+                if (options.get("service").equals("stdin")) {
+                    // the standard output only contains the results
+                    service.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+                            new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+                } else {
+                    try (var server = new ServerSocket(Integer.parseInt(options.get("service")), 0, InetAddress.getLoopbackAddress())) {
+                        System.out.println("Listening on port " + server.getLocalPort());
+                        service.listen(server);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("The service failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Converts the arguments of the genetic algorithm into the arguments of {@link Graph#geneticAlgorithm(Map, int)}
+     *
+     * @param positionalArgs the seven positional arguments of {@link #main(String[])}
+     * @param options        named arguments of {@link #main(String[])}
+     * @return arguments of the genetic algorithm
+     * @throws IllegalArgumentException if an argument cannot be parsed
+     */
+    public static Map<String, Object> geneticArguments(List<String> positionalArgs, Map<String, String> options) {
+        var arguments = new HashMap<String, Object>();
+        arguments.put("maxGenerationAmount", Integer.parseInt(positionalArgs.get(0)));
+        arguments.put("initialPopulationSize", Integer.parseInt(positionalArgs.get(1)));
+        arguments.put("tournamentSelectionPercentage", Double.parseDouble(positionalArgs.get(2)));
+        arguments.put("tournamentSizePercentage", Double.parseDouble(positionalArgs.get(3)));
+        arguments.put("mutationPercentage", Double.parseDouble(positionalArgs.get(4)));
+        arguments.put("mutationProbability", Double.parseDouble(positionalArgs.get(5)));
+        arguments.put("algorithmAttempts", Integer.parseInt(positionalArgs.get(6)));
+        if (options.containsKey("seed")) {
+            arguments.put("seed", Long.parseLong(options.get("seed")));
+        }
+        arguments.put("parallelism", Integer.parseInt(options.getOrDefault("parallelism", "1")));
+        arguments.put("attemptParallelism", Integer.parseInt(options.getOrDefault("attemptParallelism",
+                String.valueOf(Runtime.getRuntime().availableProcessors()))));
+        arguments.put("islands", Integer.parseInt(options.getOrDefault("islands", "1")));
+        arguments.put("migrationInterval", Integer.parseInt(options.getOrDefault("migrationInterval", "10")));
+        arguments.put("migrantCount", Integer.parseInt(options.getOrDefault("migrantCount", "2")));
+        arguments.put("migrationTopology", options.getOrDefault("migrationTopology", "ring"));
+        arguments.put("colorSearch", ColorSearch.Strategy.valueOf(options.getOrDefault("colorSearch", "descending").toUpperCase()));
+        arguments.put("tabuIterations", Integer.parseInt(options.getOrDefault("tabuIterations", "0")));
+        if (options.containsKey("timeLimitMillis")) {
+            arguments.put("timeLimitMillis", Long.parseLong(options.get("timeLimitMillis")));
+        }
+        arguments.put("stagnationGenerations", Integer.parseInt(options.getOrDefault("stagnationGenerations", "0")));
+        arguments.put("crossoverName", options.getOrDefault("crossover", "one_point"));
+        arguments.put("crossover", Crossover.of((String) arguments.get("crossoverName")));
+        arguments.put("seeding", WarmStart.Strategy.valueOf(options.getOrDefault("seeding", "random").toUpperCase()));
+        var seedingPercentage = Double.parseDouble(options.getOrDefault("seedingPercentage", "0.5"));
+        if (!(seedingPercentage >= 0 && seedingPercentage <= 1)) { // also rejects NaN
+            throw new IllegalArgumentException("The seeding percentage must be between 0 and 1.");
+        }
+        arguments.put("seedingPercentage", seedingPercentage);
+        if (options.containsKey("checkpoint")) {
+            arguments.put("checkpointDirectory", Path.of(options.get("checkpoint")));
+            arguments.put("checkpointInterval", Integer.parseInt(options.getOrDefault("checkpointInterval", "100")));
+            arguments.put("resume", Boolean.parseBoolean(options.getOrDefault("resume", "false")));
+        }
+        return arguments;
+    }
+
+    /**
+     * Performs the greedy algorithm with a different amount of colors on the given graph.<br>
+     * The amounts of colors are searched between a clique size and the amount of colors of the best heuristic coloring ({@link ColorSearch#upperBound(Topology)})
+     *
+     * @param graph    graph the algorithm should use
+     * @param strategy order in which the amounts of colors are tried
+     * @param ordering order in which the greedy algorithm colors the vertices
+     * @return minimum amount of colors needed to color this graph
+     */
+    public static int colorGraphGreedyWithMinimumColors(Graph graph, ColorSearch.Strategy strategy, GreedyColoring.Ordering ordering) {
+        var coloring = minimumGreedyColoring(graph, strategy, ordering);
+        graph.printInformation(coloring);
+        return countColors(coloring);
+    }
+
+    /**
+     * @return coloring with the minimum amount of colors found
+     * @see #colorGraphGreedyWithMinimumColors(Graph, ColorSearch.Strategy, GreedyColoring.Ordering)
+     */
+    public static int[] minimumGreedyColoring(Graph graph, ColorSearch.Strategy strategy, GreedyColoring.Ordering ordering) {
+        var upperBound = ColorSearch.upperBound(graph.topology());
+        return ColorSearch.search(ColorSearch.cliqueLowerBound(graph.topology(), CLIQUE_STARTS), countColors(upperBound), upperBound, colors -> {
+            graph.resetGraph();
+            return greedyAlgorithm(graph, colors, ordering) ? graph.colors() : null;
+        }, strategy).solution();
+    }
+
+    /**
+     * Performs the {@link Tabucol} search with a different amount of colors on the given graph.<br>
+     * The amounts of colors are searched between a clique size and the amount of colors of the best heuristic coloring ({@link ColorSearch#upperBound(Topology)})
+     *
+     * @param graph      graph the algorithm should use
+     * @param strategy   order in which the amounts of colors are tried
+     * @param iterations maximum amount of iterations of each search
+     * @param random     random number generator of the searches
+     * @return minimum amount of colors needed to color this graph
+     */
+    public static int colorGraphTabuWithMinimumColors(Graph graph, ColorSearch.Strategy strategy, int iterations, SplittableRandom random) {
+        var coloring = minimumTabuColoring(graph.topology(), strategy, iterations, random);
+        graph.printInformation(coloring);
+        return countColors(coloring);
+    }
+
+    /**
+     * @return coloring with the minimum amount of colors found
+     * @see #colorGraphTabuWithMinimumColors(Graph, ColorSearch.Strategy, int, SplittableRandom)
+     */
+    public static int[] minimumTabuColoring(Topology topology, ColorSearch.Strategy strategy, int iterations, SplittableRandom random) {
+        return minimumTabuColoring(topology, strategy, iterations, random, null);
+    }
+
+    /**
+     * @param cancellation flag which stops the searches once it is set or null, the best coloring found so far is returned
+     * @see #minimumTabuColoring(Topology, ColorSearch.Strategy, int, SplittableRandom)
+     */
+    public static int[] minimumTabuColoring(Topology topology, ColorSearch.Strategy strategy, int iterations, SplittableRandom random,
+                                            AtomicBoolean cancellation) {
+        var upperBound = ColorSearch.upperBound(topology);
+        return ColorSearch.search(ColorSearch.cliqueLowerBound(topology, CLIQUE_STARTS), countColors(upperBound), upperBound, colors -> {
+            var coloring = Tabucol.color(topology, colors, iterations, random, cancellation);
+            return Graph.validate(topology, coloring) ? coloring : null;
+        }, strategy).solution();
+    }
+
+    /**
+     * Performs a genetic algorithm with a different amount of colors on the given graph.<br>
+     * The amounts of colors are searched between a clique size and the amount of colors of the best heuristic coloring ({@link ColorSearch#upperBound(Topology)})
+     * with the strategy of the argument "colorSearch" ({@link ColorSearch.Strategy}).<br>
+     * If the argument "resultCache" ({@link ResultCache}) is present, a cached coloring replaces the heuristic upper bound, and the amounts of
+     * colors with which the genetic algorithm has already failed with the same settings ({@link #geneticSettings(Map)}) raise the lower bound.
+     * If the cached coloring reaches the lower bound, it is returned without any search, otherwise the result of the search and the highest
+     * amount of colors with which it has failed are stored
+     *
+     * @param graph            graph the algorithm should use
+     * @param args             system args ({@link GraphColoring#main(String[])})
+     * @param printInformation whether to print the information of the result
+     * @return minimum amount of colors needed to color this graph
+     */
+    public static int colorGraphGeneticWithMinimumColors(Graph graph, Map<String, Object> args, boolean printInformation) {
+        var coloring = minimumGeneticColoring(graph, args);
+        if (printInformation) {
+            System.out.println("\n");
+            graph.printInformation(coloring);
+        }
+        return countColors(coloring);
+    }
+
+    /**
+     * @return coloring with the minimum amount of colors found
+     * @see #colorGraphGeneticWithMinimumColors(Graph, Map, boolean)
+     */
+    public static int[] minimumGeneticColoring(Graph graph, Map<String, Object> args) {
+        var topology = graph.topology();
+        var cache = (ResultCache) args.get("resultCache");
+        var hash = cache != null ? ResultCache.hash(topology) : null;
+        // a cached coloring, e.g. a k-coloring of an earlier run, has at most as many colors as the heuristics, so the search starts with k - 1 colors
+        var cached = cache != null ? cache.best(topology, hash) : null;
+        var settings = cache != null ? geneticSettings(args) : null;
+        // the search with the same settings would fail again with at most as many colors as an earlier search
+        var lowerBound = Math.max(ColorSearch.cliqueLowerBound(topology, CLIQUE_STARTS), cached != null ? cache.failedColors(hash, settings) + 1 : 0);
+        if (cached != null && countColors(cached) <= lowerBound) {
+            return cached; // the graph contains a clique with as many vertices or the search would not find a coloring with less colors
+        }
+        var upperBound = cached != null ? cached : ColorSearch.upperBound(topology);
+        var failedColors = new int[1]; // highest amount of colors with which the genetic algorithm has failed
+        var coloring = ColorSearch.search(lowerBound, countColors(upperBound), upperBound, colors -> {
+            var chromosome = geneticAlgorithm(graph, args, colors);
+            if (chromosome != null && chromosome.valid()) {
+                return chromosome.coloring();
+            }
+            failedColors[0] = Math.max(failedColors[0], colors);
+            return null;
+        }, (ColorSearch.Strategy) args.getOrDefault("colorSearch", ColorSearch.Strategy.DESCENDING)).solution();
+        if (cache != null) {
+            // a search which has been stopped by its deadline or cancellation might not have failed with the same settings otherwise
+            var cancellation = (AtomicBoolean) args.get("cancellation");
+            var stopped = cancellation != null && cancellation.get()
+                    || args.containsKey("deadlineNanos") && System.nanoTime() - (long) args.get("deadlineNanos") >= 0;
+            cache.put(topology, hash, coloring, settings, stopped ? 0 : failedColors[0]);
+        }
+        return coloring;
+    }
+
+    /**
+     * @param args arguments of the genetic algorithm
+     * @return the arguments which determine whether the genetic algorithm finds a coloring with an amount of colors, e.g. "seed=1
+     * maxGenerationAmount=1000 ...", but not those which only affect its speed or output, such as the parallelism
+     */
+    public static String geneticSettings(Map<String, Object> args) {
+        var settings = new StringJoiner(" ");
+        for (var key : GENETIC_SETTINGS) {
+            if (args.containsKey(key)) {
+                settings.add(key + "=" + args.get(key));
+            }
+        }
+        return settings.toString();
+    }
+
+    /**
+     * Colors each kernel of the decomposition with an algorithm and extends the colorings to the whole graph
+     *
+     * @param graph            graph the decomposition belongs to
+     * @param decomposition    kernels of the graph
+     * @param parallelism      amount of kernels colored at the same time
+     * @param printInformation whether to print the coloring of the whole graph
+     * @param algorithm        receives the index of a kernel and returns a valid coloring of it
+     * @return amount of colors of the whole graph
+     */
+    public static int colorReduced(Graph graph, Decomposition decomposition, int parallelism, boolean printInformation, IntFunction<int[]> algorithm) {
+        int[] coloring;
+        try (var workers = new Workers(parallelism)) {
+            coloring = decomposition.color(workers, algorithm);
+        }
+        if (printInformation) {
+            graph.printInformation(coloring);
+        }
+        return countColors(coloring);
+    }
+
+    /**
+     * Determines the minimum amount of colors of each kernel with {@link ExactColoring}, one kernel after another, and prints the coloring of the
+     * whole graph. The time limit applies to each kernel
+     */
+    private static void colorReducedExact(Graph graph, Decomposition decomposition, Duration timeLimit, int parallelism) {
+        var kernels = decomposition.kernels();
+        var results = new ExactColoring.Result[kernels.size()];
+        var colorAmount = colorReduced(graph, decomposition, 1, true, kernel -> {
+            results[kernel] = ExactColoring.solve(kernels.get(kernel), timeLimit, parallelism);
+            return results[kernel].coloring();
+        });
+        var optimal = Arrays.stream(results).allMatch(ExactColoring.Result::optimal);
+        var lowerBound = Math.max(decomposition.lowerBound(), Arrays.stream(results).mapToInt(ExactColoring.Result::lowerBound).max().orElse(0));
+        if (optimal) {
+            System.out.printf("\n%d color(s) are necessary to color the graph, %d color(s) are impossible (proven for each kernel).",
+                    colorAmount, colorAmount - 1);
+        } else {
+            System.out.printf("\nThe time limit has been reached: %d color(s) are sufficient, at least %d color(s) are necessary.",
+                    colorAmount, lowerBound);
+        }
+        System.out.printf("\nSearch nodes: %d, time: %.1f ms%n", Arrays.stream(results).mapToLong(ExactColoring.Result::nodes).sum(),
+                Arrays.stream(results).mapToLong(ExactColoring.Result::nanos).sum() / 1e6);
+    }
+
+    public static boolean greedyAlgorithm(Graph graph, int colors, GreedyColoring.Ordering ordering) {
+        if (graph.greedyAlgorithm(colors, ordering) && graph.valid()) {
+            return true; // returns true if the graph can be colored with the given colors
+        } else {
+            graph.resetGraph(); // resets the graph if the algorithm failed
+            return false;
+        }
+    }
+
+    /**
+     * Runs the genetic algorithm with a termination determined by the arguments "timeLimitMillis" and "stagnationGenerations", and by the arguments
+     * "deadlineNanos" (Long, in terms of {@link System#nanoTime()}) and "cancellation" ({@link AtomicBoolean}, the runs stop once it is set),
+     * which limit all runs of a search together, e.g. the runs of a job of the {@link SolverService}
+     */
+    public static Chromosome geneticAlgorithm(Graph graph, Map<String, Object> args, int colors) {
+        var termination = new Termination.Builder()
+                .stagnationGenerations((int) args.getOrDefault("stagnationGenerations", 0));
+        var timeLimit = args.containsKey("timeLimitMillis") ? Duration.ofMillis((long) args.get("timeLimitMillis")) : null;
+        if (args.containsKey("deadlineNanos")) {
+            var remaining = Duration.ofNanos(Math.max(0, (long) args.get("deadlineNanos") - System.nanoTime()));
+            timeLimit = timeLimit == null || remaining.compareTo(timeLimit) < 0 ? remaining : timeLimit;
+        }
+        if (timeLimit != null) {
+            termination.timeLimit(timeLimit);
+        }
+        if (args.containsKey("cancellation")) {
+            termination.cancellation((AtomicBoolean) args.get("cancellation"));
+        }
+        return graph.geneticAlgorithm(args, colors, termination.build()).best();
+    }
+
+    /**
+     * @param coloring color index of each vertex
+     * @return amount of colors used by the coloring
+     */
+    public static int countColors(int[] coloring) {
+        var maximumColor = Vertex.NO_COLOR;
+        for (var color : coloring) {
+            maximumColor = Math.max(maximumColor, color);
+        }
+        return maximumColor + 1;
+    }
+
+    /**
+     * Calculates how many generations there will be with these arguments unless there is a limit
+     *
+     * @param initialPopulationSize         amount of chromosomes in first population
+     * @param tournamentSelectionPercentage percentage of the size of the population, which will be selected for the next generation
+     * @return amount of possible generations without limitations
+     */
+    public static int getAmountOfGenerations(int initialPopulationSize, double tournamentSelectionPercentage) {
+        return (int) (Math.log((double) 1 / initialPopulationSize) / Math.log(tournamentSelectionPercentage));
+    }
+
+    /**
+     * Setup graph with all vertices and adjacencies
+     *
+     * @return graph
+     */
+    public static Graph setupGraph() {
+        var vertex0 = new Vertex(0);
+        var vertex1 = new Vertex(1);
+        var vertex2 = new Vertex(2);
+        var vertex3 = new Vertex(3);
+        var vertex4 = new Vertex(4);
+        var vertex5 = new Vertex(5);
+        var vertex6 = new Vertex(6);
+        var vertex7 = new Vertex(7);
+        var vertex8 = new Vertex(8);
+        var vertex9 = new Vertex(9);
+
+        vertex0.adjacencies(vertex1, vertex2, vertex3);
+        vertex1.adjacencies(vertex0, vertex3, vertex8, vertex9);
+        vertex2.adjacencies(vertex0, vertex3, vertex4);
+        vertex3.adjacencies(vertex0, vertex1, vertex2, vertex4);
+        vertex4.adjacencies(vertex2, vertex3, vertex7);
+        vertex5.adjacencies(vertex8, vertex9);
+        vertex6.adjacencies(vertex7, vertex8);
+        vertex7.adjacencies(vertex4, vertex6);
+        vertex8.adjacencies(vertex1, vertex5, vertex6);
+        vertex9.adjacencies(vertex1, vertex5);
+
+        return new Graph(vertex0, vertex1, vertex2, vertex3, vertex4, vertex5, vertex6, vertex7, vertex8, vertex9);
+    }
+}
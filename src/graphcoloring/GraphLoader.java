@@ -0,0 +1,563 @@
+package graphcoloring;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Loads graphs from DIMACS ({@code .col}) or plain edge list files, or opens {@link GraphSnapshot}s ({@code .gsnap}).<br>
+ * The file is memory-mapped and parsed byte by byte without creating any strings. In the first pass, the degree of each vertex is counted,
+ * then the offsets of the topology are computed and in the second pass, the neighbours are written directly to their final position.
+ * Edges which occur more than once (e.g. in both directions) are only kept once, self-loops are rejected.<br>
+ * DIMACS: lines "c ..." are comments, "p edge &lt;vertices&gt; &lt;edges&gt;" declares the vertices 1 to n and "e &lt;u&gt; &lt;v&gt;" declares an edge.<br>
+ * Edge list: each line "&lt;u&gt; &lt;v&gt;" declares an edge between two non-negative vertex IDs, lines starting with '#' or '%' are comments.
+ * Only vertices with at least one edge are part of the graph. Dense IDs are counted in arrays indexed by the ID, sparse IDs (e.g. a few IDs near
+ * {@link Integer#MAX_VALUE}) in a hash map, so the memory is proportional to the amount of vertices in both cases
+ */
+public final class GraphLoader {
+
+    private static final long CHUNK_SIZE = 1L << 30; // a single mapping is limited to 2 GiB
+
+    private GraphLoader() {
+    }
+
+    /**
+     * Loads the graph in the format determined by the file extension
+     *
+     * @param path file to load
+     * @return topology of the graph
+     * @throws IOException if the file cannot be read
+     * @see Format#of(Path)
+     */
+    public static Topology load(Path path) throws IOException {
+        return load(path, Format.of(path));
+    }
+
+    /**
+     * @param path   file to load
+     * @param format format of the file
+     * @return topology of the graph
+     * @throws IOException if the file cannot be read
+     */
+    public static Topology load(Path path, Format format) throws IOException {
+        if (format == Format.SNAPSHOT) {
+            return GraphSnapshot.open(path);
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = channel.size();
+            var chunks = new MappedByteBuffer[(int) ((size + CHUNK_SIZE - 1) / CHUNK_SIZE)];
+            for (var i = 0; i < chunks.length; i++) {
+                var position = i * CHUNK_SIZE;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK_SIZE, size - position));
+            }
+            return format == Format.DIMACS ? loadDimacs(chunks) : loadEdgeList(chunks);
+        }
+    }
+
+    private static Topology loadDimacs(MappedByteBuffer[] chunks) {
+        // first pass: reads the amount of vertices and counts the degree of each vertex
+        var counter = new DegreeCounter();
+        parse(new Cursor(chunks), Format.DIMACS, vertices -> counter.degrees = new int[vertices], (first, second, line) -> {
+            counter.addDimacs(first, line);
+            counter.addDimacs(second, line);
+        });
+        if (counter.degrees == null) {
+            throw new IllegalArgumentException("The DIMACS file does not contain a problem line (\"p edge <vertices> <edges>\").");
+        }
+
+        // second pass: writes the neighbours, the dense index of a vertex is its ID - 1
+        var offsets = offsets(counter.degrees);
+        var neighbours = new int[offsets[offsets.length - 1]];
+        var fill = Arrays.copyOf(offsets, offsets.length - 1);
+        parse(new Cursor(chunks), Format.DIMACS, vertices -> {
+        }, (first, second, line) -> {
+            neighbours[fill[first - 1]++] = second - 1;
+            neighbours[fill[second - 1]++] = first - 1;
+        });
+
+        var ids = new int[counter.degrees.length];
+        for (var i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+        }
+        return removeDuplicateEdges(offsets, neighbours, ids);
+    }
+
+    private static Topology loadEdgeList(MappedByteBuffer[] chunks) {
+        // first pass: counts the degree of each occurring ID, indexed by the ID while the IDs are dense or by a hash map otherwise
+        var counter = new DegreeCounter();
+        counter.degrees = new int[1024 * Long.SIZE];
+        counter.present = new long[1024];
+        parse(new Cursor(chunks), Format.EDGE_LIST, vertices -> {
+        }, (first, second, line) -> {
+            counter.addId(first);
+            counter.addId(second);
+        });
+
+        // maps the IDs to dense indices in ascending order, the dense index of an ID is the amount of smaller present IDs
+        int[] ids;
+        int[] degrees;
+        var bitmap = counter.present;
+        var wordRanks = bitmap != null ? new int[bitmap.length] : null;
+        var indices = counter.indices;
+        if (indices == null) {
+            var size = 0;
+            for (var word = 0; word < bitmap.length; word++) {
+                wordRanks[word] = size;
+                size += Long.bitCount(bitmap[word]);
+            }
+            ids = new int[size];
+            degrees = new int[size];
+            var index = 0;
+            for (var word = 0; word < bitmap.length; word++) {
+                for (var bits = bitmap[word]; bits != 0; bits &= bits - 1) {
+                    var id = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    ids[index] = id;
+                    degrees[index++] = counter.degrees[id];
+                }
+            }
+        } else {
+            ids = indices.keys();
+            Arrays.sort(ids);
+            degrees = new int[ids.length];
+            indices.replaceIndices(id -> Arrays.binarySearch(ids, id), counter.degrees, degrees);
+        }
+        counter.degrees = null; // no longer needed, allows to free the memory before the neighbours are allocated
+
+        // second pass: writes the neighbours
+        var offsets = offsets(degrees);
+        var neighbours = new int[offsets[offsets.length - 1]];
+        var fill = Arrays.copyOf(offsets, offsets.length - 1);
+        if (indices == null) {
+            parse(new Cursor(chunks), Format.EDGE_LIST, vertices -> {
+            }, (first, second, line) -> {
+                var firstIndex = rank(bitmap, wordRanks, first);
+                var secondIndex = rank(bitmap, wordRanks, second);
+                neighbours[fill[firstIndex]++] = secondIndex;
+                neighbours[fill[secondIndex]++] = firstIndex;
+            });
+        } else {
+            parse(new Cursor(chunks), Format.EDGE_LIST, vertices -> {
+            }, (first, second, line) -> {
+                var firstIndex = indices.get(first);
+                var secondIndex = indices.get(second);
+                neighbours[fill[firstIndex]++] = secondIndex;
+                neighbours[fill[secondIndex]++] = firstIndex;
+            });
+        }
+        return removeDuplicateEdges(offsets, neighbours, ids);
+    }
+
+    private static int rank(long[] bitmap, int[] wordRanks, int id) {
+        var word = id >>> 6;
+        return wordRanks[word] + Long.bitCount(bitmap[word] & ((1L << id) - 1));
+    }
+
+    private static int[] offsets(int[] degrees) {
+        var offsets = new int[degrees.length + 1];
+        for (var i = 0; i < degrees.length; i++) {
+            var offset = (long) offsets[i] + degrees[i];
+            if (offset > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("The graph has too many edges.");
+            }
+            offsets[i + 1] = (int) offset;
+        }
+        return offsets;
+    }
+
+    /**
+     * Removes each neighbour which occurs more than once in the neighbours of a vertex, using a bitmap of the current vertex's neighbours.
+     * The remaining neighbours are moved to the front in place
+     */
+    private static Topology removeDuplicateEdges(int[] offsets, int[] neighbours, int[] ids) {
+        var seen = new long[(ids.length + Long.SIZE - 1) / Long.SIZE];
+        var write = 0;
+        var start = 0;
+        for (var vertex = 0; vertex < ids.length; vertex++) {
+            var end = offsets[vertex + 1];
+            var rowStart = write;
+            for (var i = start; i < end; i++) {
+                var neighbour = neighbours[i];
+                var mask = 1L << neighbour;
+                if ((seen[neighbour >>> 6] & mask) == 0) {
+                    seen[neighbour >>> 6] |= mask;
+                    neighbours[write++] = neighbour;
+                }
+            }
+            for (var i = rowStart; i < write; i++) {
+                seen[neighbours[i] >>> 6] = 0; // resets the bitmap for the next vertex
+            }
+            start = end;
+            offsets[vertex + 1] = write;
+        }
+        return new Topology(offsets, write == neighbours.length ? neighbours : Arrays.copyOf(neighbours, write), ids);
+    }
+
+    /**
+     * Reads all lines of the file and passes the problem line and each edge to the handlers
+     */
+    private static void parse(Cursor cursor, Format format, HeaderHandler headerHandler, EdgeHandler edgeHandler) {
+        while (cursor.hasMore()) {
+            cursor.skipBlanks();
+            if (!cursor.hasMore()) {
+                break;
+            }
+            var first = cursor.peek();
+            if (first == '\n') {
+                cursor.skipLine();
+                continue;
+            }
+            if (format == Format.DIMACS) {
+                switch (first) {
+                    case 'c' -> cursor.skipLine();
+                    case 'p' -> {
+                        cursor.next();
+                        cursor.skipWord(); // "edge" or "col"
+                        headerHandler.handle(cursor.nextInt());
+                        cursor.skipLine(); // the amount of edges is not needed, since the degrees are counted
+                    }
+                    case 'e' -> {
+                        cursor.next();
+                        handleEdge(cursor, edgeHandler);
+                    }
+                    default -> throw new IllegalArgumentException("Line " + cursor.line() + ": unknown line type '" + (char) first + "'.");
+                }
+            } else if (first == '#' || first == '%') {
+                cursor.skipLine();
+            } else {
+                handleEdge(cursor, edgeHandler);
+            }
+        }
+    }
+
+    private static void handleEdge(Cursor cursor, EdgeHandler edgeHandler) {
+        var line = cursor.line();
+        var first = cursor.nextInt();
+        var second = cursor.nextInt();
+        if (first == second) {
+            throw new IllegalArgumentException("Line " + line + ": vertex " + first + " is adjacent to itself.");
+        }
+        cursor.skipLine();
+        edgeHandler.handle(first, second, line);
+    }
+
+    public enum Format {
+        DIMACS,
+        EDGE_LIST,
+        SNAPSHOT;
+
+        /**
+         * @param path file of a graph
+         * @return DIMACS for files ending with ".col", snapshot for files ending with ".gsnap", otherwise edge list
+         */
+        public static Format of(Path path) {
+            var name = path.getFileName().toString();
+            return name.endsWith(".col") ? DIMACS : name.endsWith(".gsnap") ? SNAPSHOT : EDGE_LIST;
+        }
+    }
+
+    @FunctionalInterface
+    private interface HeaderHandler {
+        void handle(int vertices);
+    }
+
+    @FunctionalInterface
+    private interface EdgeHandler {
+        void handle(int first, int second, long line);
+    }
+
+    /**
+     * Results of the first pass
+     */
+    private static final class DegreeCounter {
+
+        private static final int MIN_DIRECT_IDS = 1 << 22; // IDs below are always indexed directly, which needs at most 16 MB of degrees
+        private static final int MAX_IDS_PER_VERTEX = 16; // largest ratio of the ID range to the amount of IDs for which the degrees are indexed by ID
+
+        // indexed by the dense index (DIMACS), by the ID (edge list with dense IDs) or by the index of the ID in the map (edge list with sparse IDs)
+        private int[] degrees;
+        private long[] present; // bitmap of the occurring IDs (edge list with dense IDs)
+        private int distinct; // amount of occurring IDs (edge list with dense IDs)
+        private IdMap indices; // index of each occurring ID (edge list with sparse IDs)
+
+        void addDimacs(int vertex, long line) {
+            if (degrees == null) {
+                throw new IllegalArgumentException("Line " + line + ": the edge is declared before the problem line.");
+            }
+            if (vertex < 1 || vertex > degrees.length) {
+                throw new IllegalArgumentException("Line " + line + ": vertex " + vertex + " is not between 1 and " + degrees.length + ".");
+            }
+            degrees[vertex - 1]++;
+        }
+
+        /**
+         * Counts the ID in arrays indexed by the ID as long as these stay proportional to the amount of IDs, so a few large IDs do not allocate
+         * gigabytes. Afterwards the IDs are counted by their index in a hash map
+         */
+        void addId(int id) {
+            if (indices != null) {
+                var index = indices.putIfAbsent(id);
+                if (index >= degrees.length) {
+                    degrees = Arrays.copyOf(degrees, degrees.length * 2);
+                }
+                degrees[index]++;
+                return;
+            }
+            if (id >= degrees.length) {
+                var limit = Math.max(MIN_DIRECT_IDS, (long) MAX_IDS_PER_VERTEX * distinct);
+                if (id >= limit) {
+                    switchToMap();
+                    addId(id);
+                    return;
+                }
+                var capacity = (int) Math.min(limit, Math.max((long) id + 1, degrees.length * 2L));
+                degrees = Arrays.copyOf(degrees, capacity);
+                present = Arrays.copyOf(present, (capacity + Long.SIZE - 1) / Long.SIZE);
+            }
+            if (degrees[id]++ == 0) {
+                present[id >>> 6] |= 1L << id;
+                distinct++;
+            }
+        }
+
+        private void switchToMap() {
+            indices = new IdMap();
+            var mapped = new int[Math.max(1024, 2 * distinct)];
+            for (var word = 0; word < present.length; word++) {
+                for (var bits = present[word]; bits != 0; bits &= bits - 1) {
+                    var id = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    mapped[indices.putIfAbsent(id)] = degrees[id];
+                }
+            }
+            degrees = mapped;
+            present = null;
+        }
+    }
+
+    /**
+     * Map from the non-negative vertex IDs of an edge list to indices with open addressing and linear probing, so no object is created per ID.
+     * Each slot stores the ID and its index next to each other, so a lookup usually touches a single cache line
+     */
+    private static final class IdMap {
+
+        private static final int EMPTY = -1;
+
+        private int[] slots = new int[2 * 1024]; // ID and index of each slot
+        private int size;
+
+        IdMap() {
+            Arrays.fill(slots, EMPTY);
+        }
+
+        /**
+         * @return index of the ID, a new index in the order of appearance if the ID has not occurred before
+         */
+        int putIfAbsent(int id) {
+            var slot = slot(id);
+            if (slots[slot] == id) {
+                return slots[slot + 1];
+            }
+            slots[slot] = id;
+            slots[slot + 1] = size;
+            if (++size * 4 > slots.length) { // keeps the load factor at most 0.5
+                grow();
+            }
+            return size - 1;
+        }
+
+        /**
+         * @return index of the ID, which must be present
+         */
+        int get(int id) {
+            return slots[slot(id) + 1];
+        }
+
+        /**
+         * Replaces the index of appearance of each ID by its dense index and moves the degrees accordingly
+         *
+         * @param denseIndex        dense index of an ID
+         * @param appearanceDegrees degree of each vertex, indexed by the index of appearance
+         * @param degrees           receives the degree of each vertex, indexed by the dense index
+         */
+        void replaceIndices(IntUnaryOperator denseIndex, int[] appearanceDegrees, int[] degrees) {
+            for (var slot = 0; slot < slots.length; slot += 2) {
+                if (slots[slot] != EMPTY) {
+                    var index = denseIndex.applyAsInt(slots[slot]);
+                    degrees[index] = appearanceDegrees[slots[slot + 1]];
+                    slots[slot + 1] = index;
+                }
+            }
+        }
+
+        /**
+         * @return IDs in the order of their slots
+         */
+        int[] keys() {
+            var result = new int[size];
+            var i = 0;
+            for (var slot = 0; slot < slots.length; slot += 2) {
+                if (slots[slot] != EMPTY) {
+                    result[i++] = slots[slot];
+                }
+            }
+            return result;
+        }
+
+        /**
+         * @return position of the slot of the ID or of the empty slot at which it would be inserted
+         */
+        private int slot(int id) {
+            var capacity = slots.length >>> 1;
+            // Fibonacci hashing: the highest bits of the product, so consecutive IDs are spread over the table
+            var slot = (id * 0x9e3779b9) >>> (Integer.SIZE - Integer.numberOfTrailingZeros(capacity));
+            while (slots[2 * slot] != id && slots[2 * slot] != EMPTY) {
+                slot = slot + 1 & capacity - 1;
+            }
+            return 2 * slot;
+        }
+
+        private void grow() {
+            var old = slots;
+            slots = new int[old.length * 2];
+            Arrays.fill(slots, EMPTY);
+            for (var i = 0; i < old.length; i += 2) {
+                if (old[i] != EMPTY) {
+                    var slot = slot(old[i]);
+                    slots[slot] = old[i];
+                    slots[slot + 1] = old[i + 1];
+                }
+            }
+        }
+    }
+
+    /**
+     * Sequential reader over the mapped chunks of a file. The bytes are copied in blocks from the mapping into a reusable window,
+     * because reading single bytes from a byte array is considerably faster than reading them from a mapped buffer
+     */
+    private static final class Cursor {
+
+        private static final int END = -1;
+        private static final int WINDOW_SIZE = 1 << 16;
+
+        private final MappedByteBuffer[] chunks;
+        private final byte[] window = new byte[WINDOW_SIZE];
+        private int chunk = 0;
+        private int chunkPosition = 0; // position in the current chunk after the bytes in the window
+        private int position = 0; // position in the window
+        private int limit = 0; // amount of valid bytes in the window
+        private long line = 1;
+
+        Cursor(MappedByteBuffer[] chunks) {
+            this.chunks = chunks;
+        }
+
+        boolean hasMore() {
+            return position < limit || fill();
+        }
+
+        /**
+         * Copies the next block of the file into the window
+         *
+         * @return whether there are any bytes left
+         */
+        private boolean fill() {
+            while (chunk < chunks.length && chunkPosition >= chunks[chunk].limit()) {
+                chunk++;
+                chunkPosition = 0;
+            }
+            if (chunk >= chunks.length) {
+                return false;
+            }
+            var length = Math.min(WINDOW_SIZE, chunks[chunk].limit() - chunkPosition);
+            chunks[chunk].get(chunkPosition, window, 0, length);
+            chunkPosition += length;
+            position = 0;
+            limit = length;
+            return true;
+        }
+
+        /**
+         * @return next byte without consuming it or {@link #END} at the end of the file
+         */
+        int peek() {
+            return position < limit || fill() ? window[position] : END;
+        }
+
+        byte next() {
+            hasMore();
+            var value = window[position++];
+            if (value == '\n') {
+                line++;
+            }
+            return value;
+        }
+
+        long line() {
+            return line;
+        }
+
+        /**
+         * Skips spaces, tabs and carriage returns, but not line feeds
+         */
+        void skipBlanks() {
+            while (position < limit || fill()) {
+                var value = window[position];
+                if (value != ' ' && value != '\t' && value != '\r') {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        void skipWord() {
+            skipBlanks();
+            for (var value = peek(); value > ' '; value = peek()) {
+                position++;
+            }
+        }
+
+        /**
+         * Skips everything up to and including the next line feed
+         */
+        void skipLine() {
+            while (hasMore()) {
+                if (window[position++] == '\n') {
+                    line++;
+                    return;
+                }
+            }
+        }
+
+        int nextInt() {
+            skipBlanks();
+            var value = 0L;
+            var digits = 0;
+            while (position < limit || fill()) {
+                // scans the window directly, the window is only refilled if a number crosses its end
+                var i = position;
+                for (var digit = window[i] - '0'; digit >= 0 && digit <= 9; digit = window[i] - '0') {
+                    value = value * 10 + digit;
+                    if (value > Integer.MAX_VALUE) {
+                        throw new IllegalArgumentException("Line " + line + ": the number is too large.");
+                    }
+                    if (++i == limit) {
+                        break;
+                    }
+                }
+                digits += i - position;
+                var crossed = i == limit;
+                position = i;
+                if (!crossed) {
+                    break;
+                }
+            }
+            if (digits == 0) {
+                throw new IllegalArgumentException("Line " + line + ": a non-negative number is expected.");
+            }
+            return (int) value;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package graphcoloring;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Versioned binary snapshot of a {@link Topology}, which is written once and afterwards opened by memory-mapping the file.<br>
+ * Opening a snapshot neither parses nor copies anything: the topology reads its tables directly from the mapped file, so opening takes constant
+ * time regardless of the size of the graph, and several processes which open the same snapshot share its pages in the page cache.<br>
+ * Layout (all values are little-endian ints): a header of {@value #HEADER_INTS} values (magic, version, amount of vertices, amount of
+ * neighbour entries, reserved values), followed by the tables offsets (vertices + 1 values), neighbours, IDs, sorted IDs and the dense indices of
+ * the sorted IDs (vertices values each)
+ */
+public final class GraphSnapshot {
+
+    private static final int MAGIC = 0x50534347; // "GCSP" in little-endian
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 8;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private GraphSnapshot() {
+    }
+
+    /**
+     * Writes the snapshot to a temporary file first and then moves it to the given path, so no process can open a partially written snapshot
+     *
+     * @param topology topology to write
+     * @param path     file of the snapshot, which is replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Topology topology, Path path) throws IOException {
+        var tables = topology.tables();
+        var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            var buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(topology.size()).putInt(tables[1].limit());
+            while (buffer.position() < HEADER_INTS * Integer.BYTES) {
+                buffer.putInt(0); // reserved for later versions
+            }
+            for (var table : tables) {
+                while (table.hasRemaining()) {
+                    var ints = buffer.asIntBuffer();
+                    var length = Math.min(ints.remaining(), table.remaining());
+                    ints.put(table.slice(table.position(), length));
+                    table.position(table.position() + length);
+                    buffer.position(buffer.position() + length * Integer.BYTES);
+                    if (!buffer.hasRemaining()) {
+                        flush(channel, buffer);
+                    }
+                }
+            }
+            flush(channel, buffer);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Maps the snapshot into memory. Only the header and the file size are checked, the tables themselves are trusted
+     *
+     * @param path file of the snapshot
+     * @return topology which reads its tables from the mapped file
+     * @throws IOException if the file cannot be read
+     */
+    public static Topology open(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_INTS * Integer.BYTES) {
+                throw new IllegalArgumentException("The file is too small to be a graph snapshot.");
+            }
+            var header = map(channel, 0, HEADER_INTS);
+            if (header.get(0) != MAGIC) {
+                throw new IllegalArgumentException("The file is not a graph snapshot.");
+            }
+            if (header.get(1) != VERSION) {
+                throw new IllegalArgumentException("The graph snapshot has version " + header.get(1) + ", but only version " + VERSION + " is supported.");
+            }
+            var vertices = header.get(2);
+            var neighbours = header.get(3);
+            var lengths = new long[]{vertices + 1L, neighbours, vertices, vertices, vertices};
+            var expectedSize = (long) HEADER_INTS;
+            for (var length : lengths) {
+                expectedSize += length;
+            }
+            if (vertices < 0 || neighbours < 0 || channel.size() != expectedSize * Integer.BYTES) {
+                throw new IllegalArgumentException("The size of the graph snapshot does not match its header.");
+            }
+
+            // each table gets its own mapping, since a single mapping is limited to 2 GiB, the mappings stay valid after closing the channel
+            var tables = new IntBuffer[lengths.length];
+            var position = (long) HEADER_INTS;
+            for (var i = 0; i < tables.length; i++) {
+                tables[i] = map(channel, position, lengths[i]);
+                position += lengths[i];
+            }
+            return new Topology(tables[0], tables[1], tables[2], tables[3], tables[4]);
+        }
+    }
+
+    /**
+     * @param position position of the first int in the file, counted in ints
+     * @param length   amount of ints to map
+     */
+    private static IntBuffer map(FileChannel channel, long position, long length) throws IOException {
+        if (length * Integer.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("A table of the graph snapshot is too large to be mapped.");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position * Integer.BYTES, length * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asIntBuffer();
+    }
+}
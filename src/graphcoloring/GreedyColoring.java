@@ -0,0 +1,240 @@
+package graphcoloring;
+
+import java.util.Arrays;
+
+/**
+ * First-fit greedy coloring which colors the vertices one after another in a configurable order, each with the first color which is not used by
+ * any of its adjacencies.<br>
+ * The order covers every vertex, so graphs with several connected components are colored completely. Instead of recursing from a vertex to its
+ * adjacencies, all orders are computed with explicit arrays, so the depth of the graph does not matter
+ */
+public final class GreedyColoring {
+
+    // each thread reuses its own marks, so determining the first free color does not allocate anything
+    private static final ThreadLocal<ForbiddenColors> FORBIDDEN_COLORS = ThreadLocal.withInitial(ForbiddenColors::new);
+
+    private GreedyColoring() {
+    }
+
+    /**
+     * Colors the vertices in the given order until a vertex cannot be colored with the available colors
+     *
+     * @param topology topology of the graph
+     * @param ordering order in which the vertices are colored
+     * @param colors   amount of available colors
+     * @param coloring receives the color index of each vertex, vertices which have not been colored keep {@link Vertex#NO_COLOR}
+     * @return whether all vertices have been colored
+     */
+    public static boolean color(Topology topology, Ordering ordering, int colors, int[] coloring) {
+        Arrays.fill(coloring, Vertex.NO_COLOR);
+        for (var vertex : order(topology, ordering)) {
+            var color = firstFreeColor(topology, vertex, coloring);
+            if (color >= colors) {
+                return false; // if there is no valid color for this vertex, the algorithm stops
+            }
+            coloring[vertex] = color;
+        }
+        return true;
+    }
+
+    /**
+     * Colors all vertices in the given order without limiting the amount of colors
+     *
+     * @param topology topology of the graph
+     * @param ordering order in which the vertices are colored
+     * @return color index of each vertex
+     */
+    public static int[] color(Topology topology, Ordering ordering) {
+        var coloring = new int[topology.size()];
+        color(topology, ordering, Integer.MAX_VALUE, coloring);
+        return coloring;
+    }
+
+    /**
+     * Determines the lowest color index which is not used by any adjacency of the vertex
+     *
+     * @param topology topology of the graph
+     * @param vertex   dense index of the vertex
+     * @param coloring color index of each vertex or {@link Vertex#NO_COLOR}
+     * @return first free color index, at most the degree of the vertex
+     */
+    public static int firstFreeColor(Topology topology, int vertex, int[] coloring) {
+        var forbidden = FORBIDDEN_COLORS.get().next(topology.degree(vertex) + 1);
+        for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+            forbidden.mark(coloring[topology.neighbour(i)]);
+        }
+        var color = 0;
+        while (forbidden.marked(color)) {
+            color++;
+        }
+        return color;
+    }
+
+    /**
+     * @param topology topology of the graph
+     * @param ordering order to determine
+     * @return dense indices of all vertices in the given order
+     */
+    public static int[] order(Topology topology, Ordering ordering) {
+        return switch (ordering) {
+            case BFS -> breadthFirstOrder(topology);
+            case LARGEST_FIRST -> largestFirstOrder(topology);
+            case SMALLEST_LAST -> smallestLastOrder(topology);
+        };
+    }
+
+    /**
+     * Visits the adjacencies of the first vertex, then their adjacencies and so on. As soon as a connected component is completely visited,
+     * the next component starts with its vertex with the lowest index
+     */
+    private static int[] breadthFirstOrder(Topology topology) {
+        var queue = new int[topology.size()]; // the queue is also the resulting order, since every vertex is enqueued exactly once
+        var visited = new boolean[topology.size()];
+        var head = 0;
+        var tail = 0;
+        for (var start = 0; start < topology.size(); start++) {
+            if (visited[start]) {
+                continue;
+            }
+            visited[start] = true;
+            queue[tail++] = start;
+            while (head < tail) {
+                var vertex = queue[head++];
+                for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                    var adjacency = topology.neighbour(i);
+                    if (!visited[adjacency]) {
+                        visited[adjacency] = true;
+                        queue[tail++] = adjacency;
+                    }
+                }
+            }
+        }
+        return queue;
+    }
+
+    /**
+     * Orders the vertices by descending degree
+     */
+    private static int[] largestFirstOrder(Topology topology) {
+        var vertices = new int[topology.size()];
+        for (var i = 0; i < vertices.length; i++) {
+            vertices[i] = i;
+        }
+        sortByDescendingDegree(topology, vertices);
+        return vertices;
+    }
+
+    /**
+     * Repeatedly removes a vertex with the lowest degree among the remaining vertices and colors the vertices in the reverse order of their removal.
+     * The remaining degrees are kept in buckets, so the order is determined in O(n + m)
+     */
+    private static int[] smallestLastOrder(Topology topology) {
+        var size = topology.size();
+        var degrees = new int[size];
+        var bucketStarts = new int[topology.maxDegree() + 2];
+        for (var vertex = 0; vertex < size; vertex++) {
+            degrees[vertex] = topology.degree(vertex);
+            bucketStarts[degrees[vertex] + 1]++;
+        }
+        for (var degree = 1; degree < bucketStarts.length; degree++) {
+            bucketStarts[degree] += bucketStarts[degree - 1];
+        }
+        // sorts the vertices by degree with a counting sort, each degree's vertices form a bucket
+        var sorted = new int[size];
+        var positions = new int[size];
+        var fill = Arrays.copyOf(bucketStarts, bucketStarts.length);
+        for (var vertex = 0; vertex < size; vertex++) {
+            positions[vertex] = fill[degrees[vertex]]++;
+            sorted[positions[vertex]] = vertex;
+        }
+
+        // the vertex at position i is removed in step i, decreasing an adjacency's degree moves it to the start of its bucket,
+        // which then becomes the end of the next lower bucket (Batagelj-Zaversnik)
+        var order = new int[size];
+        for (var i = 0; i < size; i++) {
+            var vertex = sorted[i];
+            order[size - 1 - i] = vertex;
+            for (var j = topology.start(vertex); j < topology.end(vertex); j++) {
+                var adjacency = topology.neighbour(j);
+                if (degrees[adjacency] <= degrees[vertex]) {
+                    continue; // already removed, or its remaining degree cannot fall below the one of the removed vertex
+                }
+                var degree = degrees[adjacency];
+                var bucketStart = bucketStarts[degree];
+                var first = sorted[bucketStart];
+                if (first != adjacency) {
+                    sorted[positions[adjacency]] = first;
+                    positions[first] = positions[adjacency];
+                    sorted[bucketStart] = adjacency;
+                    positions[adjacency] = bucketStart;
+                }
+                bucketStarts[degree]++;
+                degrees[adjacency]--;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Sorts the given vertices by descending degree
+     *
+     * @param topology topology of the graph
+     * @param vertices dense indices of the vertices to sort
+     */
+    public static void sortByDescendingDegree(Topology topology, int[] vertices) {
+        // packs the negated degree (upper half) and the vertex (lower half) into one long, so sorting does not need any boxed values
+        var keys = new long[vertices.length];
+        for (var i = 0; i < vertices.length; i++) {
+            keys[i] = ((long) -topology.degree(vertices[i]) << 32) | vertices[i];
+        }
+        Arrays.sort(keys);
+        for (var i = 0; i < vertices.length; i++) {
+            vertices[i] = (int) keys[i];
+        }
+    }
+
+    public enum Ordering {
+        BFS,
+        LARGEST_FIRST,
+        SMALLEST_LAST
+    }
+
+    /**
+     * Marks of the colors used by the adjacencies of one vertex. Instead of clearing the marks for each vertex, a new stamp is used
+     */
+    private static final class ForbiddenColors {
+
+        private int[] stamps = new int[16];
+        private int stamp = 0;
+
+        /**
+         * Removes all marks
+         *
+         * @param capacity highest color index which will be checked + 1
+         * @return these marks
+         */
+        ForbiddenColors next(int capacity) {
+            if (stamps.length < capacity) {
+                stamps = new int[Math.max(capacity, stamps.length * 2)];
+                stamp = 0;
+            }
+            if (stamp == Integer.MAX_VALUE) {
+                Arrays.fill(stamps, 0);
+                stamp = 0;
+            }
+            stamp++;
+            return this;
+        }
+
+        void mark(int color) {
+            // colors beyond the capacity can never be the first free color, because a vertex has less adjacencies than the capacity
+            if (color >= 0 && color < stamps.length) {
+                stamps[color] = stamp;
+            }
+        }
+
+        boolean marked(int color) {
+            return color < stamps.length && stamps[color] == stamp;
+        }
+    }
+}
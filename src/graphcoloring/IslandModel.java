@@ -0,0 +1,231 @@
+package graphcoloring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Exchanger;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Genetic algorithm with several independent populations (= islands), which evolve on their own threads and periodically send copies of their
+ * best chromosomes (= migrants) to other islands, where these replace the worst chromosomes.<br>
+ * The following optional arguments configure the model:<br>
+ * islands: amount of islands, the initial population size is divided among them (Integer)<br>
+ * migrationInterval: amount of generations between two migrations, default 10 (Integer)<br>
+ * migrantCount: amount of chromosomes each island sends per migration, default 2 (Integer)<br>
+ * migrationTopology: "ring" to send the migrants to the next island, or "exchanger" to swap them with a neighbouring island, default "ring" (String)<br>
+ * The islands migrate asynchronously, so the generation in which an island receives migrants depends on the thread scheduling and the result is
+ * not reproducible by the seed
+ */
+public final class IslandModel {
+
+    private static final long EXCHANGE_WAIT_MILLIS = 50;
+
+    private final Graph graph;
+    private final Map<String, Object> args;
+    private final int colors;
+
+    private final int islands;
+    private final int migrationInterval;
+    private final int migrantCount;
+    private final MigrationTopology migrationTopology;
+
+    private final List<ConcurrentLinkedQueue<Chromosome>> mailboxes = new ArrayList<>(); // incoming migrants of each island for the ring topology
+    private final List<List<Exchanger<List<Chromosome>>>> exchangers = new ArrayList<>(); // exchangers of each pair for both pairings
+    private final AtomicIntegerArray finished; // whether an island has stopped evolving, so no other island waits for it
+    private final Termination termination;
+    // reason which stops all islands, e.g. a valid coloring found by any island, or null while each island decides on its own
+    private final AtomicReference<Termination.Reason> stopReason = new AtomicReference<>();
+
+    public IslandModel(Graph graph, Map<String, Object> args, int colors, Termination termination) {
+        this.graph = graph;
+        this.termination = termination;
+        this.args = args;
+        this.colors = colors;
+        this.islands = (int) args.get("islands");
+        this.migrationInterval = (int) args.getOrDefault("migrationInterval", 10);
+        this.migrantCount = (int) args.getOrDefault("migrantCount", 2);
+        this.migrationTopology = MigrationTopology.valueOf(((String) args.getOrDefault("migrationTopology", "ring")).toUpperCase());
+        this.finished = new AtomicIntegerArray(islands);
+
+        for (var i = 0; i < islands; i++) {
+            mailboxes.add(new ConcurrentLinkedQueue<>());
+        }
+        for (var pairing = 0; pairing < 2; pairing++) {
+            var pairs = new ArrayList<Exchanger<List<Chromosome>>>();
+            for (var i = 0; i < islands / 2; i++) {
+                pairs.add(new Exchanger<>());
+            }
+            exchangers.add(pairs);
+        }
+    }
+
+    /**
+     * Evolves all islands at the same time until each one reached the maximum amount of generations, shrank to one chromosome or stagnated,
+     * or until any island found a valid coloring or another condition of the termination stops all islands
+     *
+     * @param random random number generator from which each island gets its own split
+     * @return chromosome with the highest fitness of all islands
+     */
+    public Solution run(SplittableRandom random) {
+        var randoms = Population.split(random, islands);
+        var populationSize = Math.max(2, (int) args.get("initialPopulationSize") / islands);
+        var seededPercentage = (double) args.getOrDefault("seedingPercentage", 0.5);
+        // all islands share one warm start, so its heuristic coloring (e.g. DSatur) is computed once, while each island seeds its own population
+        var warmStart = new WarmStart(graph.topology(), colors, Math.round(populationSize * seededPercentage) > 0
+                ? (WarmStart.Strategy) args.getOrDefault("seeding", WarmStart.Strategy.RANDOM) : WarmStart.Strategy.RANDOM);
+        var executor = Executors.newFixedThreadPool(islands);
+        try {
+            var futures = new ArrayList<Future<Solution>>();
+            for (var i = 0; i < islands; i++) {
+                var island = i;
+                futures.add(executor.submit(() -> evolve(island, randoms[island], populationSize, warmStart, seededPercentage)));
+            }
+            var results = new ArrayList<Solution>();
+            for (var future : futures) {
+                results.add(future.get());
+            }
+            var best = results.stream().max(Comparator.comparingInt(result -> result.best().fitness())).orElseThrow();
+            var generations = results.stream().mapToInt(Solution::generations).max().orElseThrow();
+            return new Solution(best.best(), generations, stopReason.get() != null ? stopReason.get() : best.reason());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The islands have been interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("An island failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param island           index of the island
+     * @param random           random number generator of the island
+     * @param populationSize   size of the island's initial population
+     * @param warmStart        warm start shared by all islands
+     * @param seededPercentage percentage of the initial population which is seeded
+     * @return chromosome with the highest fitness the island found
+     */
+    private Solution evolve(int island, SplittableRandom random, int populationSize, WarmStart warmStart, double seededPercentage) {
+        var monitor = new GenerationMonitor(args, island);
+        try (var workers = new Workers(1)) { // the islands themselves are the parallel tasks
+            var timings = monitor.start();
+            var population = new Population(graph, populationSize, colors, random, workers, warmStart, seededPercentage);
+            monitor.finish(timings, 0, population);
+            var buffers = new PopulationBuffers(population, args, workers);
+            var best = buffers.best().copy(); // the slots of the buffers are overwritten by later generations
+            var lastImprovement = 0;
+            var generation = 0;
+            var migration = 0;
+            var reason = termination.check(best, 0);
+            while (reason == null) {
+                if (stopReason.get() != null) {
+                    return new Solution(best, generation, stopReason.get());
+                }
+                if (generation + 1 >= (int) args.get("maxGenerationAmount")) {
+                    reason = Termination.Reason.EXHAUSTED;
+                    break;
+                }
+                timings = monitor.start();
+                buffers.advance(random, timings);
+                generation++;
+                if (timings != null) {
+                    monitor.finish(timings, generation, buffers.population());
+                }
+                if (buffers.size() == 1) {
+                    reason = Termination.Reason.EXHAUSTED;
+                    break;
+                }
+                if (generation % migrationInterval == 0) {
+                    migrate(island, migration++, buffers.population());
+                }
+                var generationBest = buffers.best();
+                if (generationBest.fitness() > best.fitness()) {
+                    best.copyFrom(generationBest);
+                    lastImprovement = generation;
+                }
+                reason = termination.check(best, generation - lastImprovement);
+            }
+            if (reason != Termination.Reason.STAGNATION && reason != Termination.Reason.EXHAUSTED) {
+                stopReason.compareAndSet(null, reason); // e.g. a valid coloring stops all other islands as well
+            }
+            return new Solution(best, generation, reason);
+        } finally {
+            finished.set(island, 1);
+        }
+    }
+
+    /**
+     * Sends copies of the island's best chromosomes to other islands and lets the received migrants replace the worst chromosomes
+     *
+     * @param island     index of the island
+     * @param migration  how many migrations this island has performed before
+     * @param population current population of the island
+     */
+    private void migrate(int island, int migration, Population population) {
+        var migrants = population.best(Math.min(migrantCount, population.chromosomes().size() - 1)).stream()
+                .map(Chromosome::copy) // the receiving island must not share chromosomes with the sending island
+                .toList();
+        var immigrants = switch (migrationTopology) {
+            case RING -> {
+                mailboxes.get((island + 1) % islands).addAll(migrants);
+                var received = new ArrayList<Chromosome>();
+                while (received.size() < migrants.size()) {
+                    var migrant = mailboxes.get(island).poll();
+                    if (migrant == null) {
+                        break;
+                    }
+                    received.add(migrant);
+                }
+                yield received;
+            }
+            case EXCHANGER -> exchange(island, migration, migrants);
+        };
+        population.replaceWorst(immigrants);
+    }
+
+    /**
+     * Swaps the migrants with the neighbouring island of the current pairing. The pairings alternate between (0, 1), (2, 3), ... and
+     * (1, 2), (3, 4), ..., so over time the migrants travel around all islands
+     *
+     * @param island    index of the island
+     * @param migration how many migrations this island has performed before, which determines the pairing
+     * @param migrants  migrants of this island
+     * @return migrants of the neighbouring island or an empty list if there is no neighbour or it already stopped
+     */
+    private List<Chromosome> exchange(int island, int migration, List<Chromosome> migrants) {
+        var pairing = migration % 2;
+        var position = (island - pairing + islands) % islands;
+        var partnerPosition = position ^ 1;
+        if (partnerPosition >= islands) {
+            return List.of(); // with an odd amount of islands, one island has no partner
+        }
+        var partner = (partnerPosition + pairing) % islands;
+        var exchanger = exchangers.get(pairing).get(Math.min(position, partnerPosition) / 2);
+        while (finished.get(partner) == 0 && stopReason.get() == null) {
+            try {
+                return exchanger.exchange(migrants, EXCHANGE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // the partner has not reached this migration yet, so check again whether it is still evolving
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return List.of();
+            }
+        }
+        return List.of();
+    }
+
+    public enum MigrationTopology {
+        RING,
+        EXCHANGER
+    }
+}
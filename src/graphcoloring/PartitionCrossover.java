@@ -0,0 +1,142 @@
+package graphcoloring;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Greedy partition crossover (GPX): a coloring is a partition of the vertices into color classes, so instead of genes at certain positions,
+ * the child inherits whole color classes. For each color of the child, the parents take turns and the current parent hands down its color
+ * class with the most vertices which have not been inherited yet. Vertices which are left after all colors have been assigned get a random color.<br>
+ * The color classes of both parents are bitsets, so determining the vertices a class hands down takes O(n / 64), and the remaining sizes of the
+ * other parent's classes are updated in O(1) per inherited vertex. Thus a child costs O(n * k / 64 + n + k * k) and O(m) for its fitness
+ */
+public final class PartitionCrossover {
+
+    // each thread reuses its own bitsets, so the crossovers do not allocate them again
+    private static final ThreadLocal<Workspace> WORKSPACES = ThreadLocal.withInitial(Workspace::new);
+
+    private PartitionCrossover() {
+    }
+
+    /**
+     * @param first  parent which hands down the first color class
+     * @param second other parent
+     * @param random random number generator for the colors of the remaining vertices and to choose between equally large classes
+     * @return child of the parents
+     * @see Crossover#GPX
+     */
+    public static Chromosome cross(Chromosome first, Chromosome second, RandomGenerator random) {
+        var genes = new short[first.genes().length];
+        WORKSPACES.get().cross(first, second, random, genes);
+        return Chromosome.of(first.topology(), first.colors(), genes);
+    }
+
+    /**
+     * @param child chromosome of the same graph and amount of colors which receives the child, neither of the parents
+     * @see #cross(Chromosome, Chromosome, RandomGenerator)
+     */
+    public static void cross(Chromosome first, Chromosome second, RandomGenerator random, Chromosome child) {
+        WORKSPACES.get().cross(first, second, random, child.genes());
+        child.calculateFitness();
+    }
+
+    private static final class Workspace {
+
+        private long[][] classes = new long[2][]; // color classes of both parents, the bits of color c start at word c * words
+        private int[][] sizes = new int[2][]; // amount of vertices of each color class which have not been inherited yet
+        private long[] remaining = new long[0]; // vertices which have not been inherited yet
+        private final short[][] parents = new short[2][]; // genes of both parents during a crossover
+
+        /**
+         * @param genes receives the genes of the child
+         */
+        void cross(Chromosome first, Chromosome second, RandomGenerator random, short[] genes) {
+            var vertices = first.genes().length;
+            var colors = first.colors();
+            var words = (vertices + Long.SIZE - 1) / Long.SIZE;
+            parents[0] = first.genes();
+            parents[1] = second.genes();
+            prepare(parents, colors, words);
+
+            Arrays.fill(genes, (short) Vertex.NO_COLOR);
+            var remainingVertices = vertices;
+            for (var color = 0; color < colors && remainingVertices > 0; color++) {
+                var parent = color % 2;
+                var largest = largestClass(sizes[parent], colors, random);
+                var bits = classes[parent];
+                var otherGenes = parents[1 - parent];
+                var otherSizes = sizes[1 - parent];
+                for (var word = 0; word < words; word++) {
+                    var inherited = bits[largest * words + word] & remaining[word];
+                    remaining[word] &= ~inherited;
+                    for (; inherited != 0; inherited &= inherited - 1) {
+                        var vertex = word * Long.SIZE + Long.numberOfTrailingZeros(inherited);
+                        genes[vertex] = (short) color;
+                        otherSizes[otherGenes[vertex]]--; // the vertex is no longer available in the other parent's class
+                        remainingVertices--;
+                    }
+                }
+                sizes[parent][largest] = 0; // the class has been inherited completely
+            }
+
+            // the vertices which have not been inherited get a random color
+            for (var word = 0; word < words && remainingVertices > 0; word++) {
+                for (var bits = remaining[word]; bits != 0; bits &= bits - 1) {
+                    genes[word * Long.SIZE + Long.numberOfTrailingZeros(bits)] = (short) random.nextInt(colors);
+                    remainingVertices--;
+                }
+            }
+            parents[0] = null; // the workspace outlives the crossover, but must not keep the parents alive
+            parents[1] = null;
+        }
+
+        /**
+         * Builds the color class bitsets and sizes of both parents and marks all vertices as remaining
+         */
+        private void prepare(short[][] parents, int colors, int words) {
+            var cells = colors * words;
+            if (remaining.length < words) {
+                remaining = new long[words];
+            }
+            for (var parent = 0; parent < 2; parent++) {
+                if (classes[parent] == null || classes[parent].length < cells) {
+                    classes[parent] = new long[cells];
+                } else {
+                    Arrays.fill(classes[parent], 0, cells, 0);
+                }
+                if (sizes[parent] == null || sizes[parent].length < colors) {
+                    sizes[parent] = new int[colors];
+                } else {
+                    Arrays.fill(sizes[parent], 0, colors, 0);
+                }
+                var genes = parents[parent];
+                for (var vertex = 0; vertex < genes.length; vertex++) {
+                    classes[parent][genes[vertex] * words + (vertex >>> 6)] |= 1L << vertex;
+                    sizes[parent][genes[vertex]]++;
+                }
+            }
+            Arrays.fill(remaining, 0, words, -1L);
+            var vertices = parents[0].length;
+            if (vertices % Long.SIZE != 0) {
+                remaining[words - 1] = (1L << vertices) - 1; // only the bits of existing vertices
+            }
+        }
+
+        /**
+         * @return color of the class with the most remaining vertices, equally large classes are chosen uniformly
+         */
+        private static int largestClass(int[] sizes, int colors, RandomGenerator random) {
+            var largest = 0;
+            var ties = 0;
+            for (var color = 0; color < colors; color++) {
+                if (sizes[color] > sizes[largest]) {
+                    largest = color;
+                    ties = 1;
+                } else if (sizes[color] == sizes[largest] && random.nextInt(++ties) == 0) {
+                    largest = color;
+                }
+            }
+            return largest;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package graphcoloring;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+public class Population {
+
+    private final List<Chromosome> chromosomes;
+
+    public Population(List<Chromosome> chromosomes) {
+        this.chromosomes = chromosomes;
+    }
+
+    /**
+     * Randomly generates a new population
+     *
+     * @param graph            the graph the chromosomes are based on
+     * @param chromosomeAmount amount of chromosomes for this population
+     * @param colors           amount of available colors
+     * @param random           random number generator from which each chromosome gets its own split
+     * @param workers          workers which create the chromosomes
+     */
+    public Population(Graph graph, int chromosomeAmount, int colors, SplittableRandom random, Workers workers) {
+        this(graph, chromosomeAmount, colors, random, workers, WarmStart.Strategy.RANDOM, 0);
+    }
+
+    /**
+     * Generates a new population of which a share is seeded with heuristic colorings and the remaining chromosomes are random
+     *
+     * @param seeding           heuristic of the seeded chromosomes
+     * @param seededPercentage percentage of the chromosomes which are seeded
+     * @see #Population(Graph, int, int, SplittableRandom, Workers)
+     * @see WarmStart
+     */
+    public Population(Graph graph, int chromosomeAmount, int colors, SplittableRandom random, Workers workers, WarmStart.Strategy seeding,
+                      double seededPercentage) {
+        this(graph, chromosomeAmount, colors, random, workers, new WarmStart(graph.topology(), colors,
+                Math.round(chromosomeAmount * seededPercentage) > 0 ? seeding : WarmStart.Strategy.RANDOM), seededPercentage);
+    }
+
+    /**
+     * Generates a new population whose seeded chromosomes are created by the given warm start, which several populations can share, e.g. the
+     * islands of the {@link IslandModel}, so its heuristic coloring is only computed once
+     *
+     * @param warmStart        warm start of the graph and the amount of colors which creates the seeded chromosomes
+     * @param seededPercentage percentage of the chromosomes which are seeded
+     * @see #Population(Graph, int, int, SplittableRandom, Workers, WarmStart.Strategy, double)
+     */
+    public Population(Graph graph, int chromosomeAmount, int colors, SplittableRandom random, Workers workers, WarmStart warmStart,
+                      double seededPercentage) {
+        this(Arrays.asList(new Chromosome[chromosomeAmount]));
+        var seeded = (int) Math.round(chromosomeAmount * seededPercentage);
+        // the generators are split in a fixed order before the parallel part, so the result does not depend on the thread scheduling
+        var randoms = split(random, chromosomeAmount);
+        workers.forEach(chromosomeAmount, i -> chromosomes.set(i, i < seeded ? warmStart.chromosome(randoms[i])
+                : new Chromosome(graph.topology(), colors, randoms[i])));
+    }
+
+    /**
+     * Splits the given random number generator into independent generators
+     *
+     * @param random random number generator to split
+     * @param amount amount of generators
+     * @return split generators
+     */
+    public static SplittableRandom[] split(SplittableRandom random, int amount) {
+        var randoms = new SplittableRandom[amount];
+        for (var i = 0; i < amount; i++) {
+            randoms[i] = random.split();
+        }
+        return randoms;
+    }
+
+    /**
+     * Determines a subset of chromosomes using the tournament selection.<br>
+     * For the amount of tournaments, this algorithm randomly picks chromosomes of this population (= tournament) and determines the chromosome with
+     * the highest fitness (= tournament winner).<br>
+     * The selection percentage determines how many chromosomes will be picked and returned dependent on the amount of chromosomes in this population.
+     * Consequently, the selection percentage also influences the amount of tournaments, because each tournament only determines one "winning" chromosome
+     * which is being selected for the final subset.<br>
+     * The size of each tournament is the tournament size percentage of this population's size.<br>
+     * The amount of chromosomes in each tournament is dependent on the tournament size percentage.
+     *
+     * @param selectionPercentage percentage of the amount of chromosomes in this population, which determines the size of the final subset
+     * @param tournamentSizePercentage percentage of the amount of chromosomes in this population, which determines the amount of chromosomes in each tournament
+     * @param random                   random number generator from which each tournament gets its own split
+     * @param workers                  workers which perform the tournaments
+     * @return selected subset
+     */
+    public List<Chromosome> tournamentSelection(double selectionPercentage, double tournamentSizePercentage, SplittableRandom random, Workers workers) {
+        // calculating the absolute values of the given percentages
+        var selectionSize = (int) Math.round(chromosomes.size() * selectionPercentage);
+        // small populations would otherwise lead to empty tournaments without a winner
+        var tournamentSize = Math.max(1, (int) Math.round(chromosomes.size() * tournamentSizePercentage));
+
+        var randoms = split(random, selectionSize);
+        var selectedChromosomes = new Chromosome[selectionSize]; // represents the selected chromosomes which will form the successor generation
+
+        workers.forEach(selectionSize, i -> {
+            // randomly picks chromosomes of this population for the tournament and keeps the one with the highest fitness
+            var winner = chromosomes.get(randoms[i].nextInt(chromosomes.size()));
+            for (var j = 1; j < tournamentSize; j++) {
+                var chromosome = chromosomes.get(randoms[i].nextInt(chromosomes.size()));
+                if (chromosome.fitness() > winner.fitness()) {
+                    winner = chromosome;
+                }
+            }
+            // adds the winner of this tournament to the subset, so to the list of chromosomes which will form the new generation
+            selectedChromosomes[i] = winner;
+        });
+        return Arrays.asList(selectedChromosomes);
+    }
+
+    /**
+     * Calculates the fitness of all chromosomes from scratch
+     *
+     * @param workers workers which calculate the fitness
+     * @see Chromosome#calculateFitness()
+     */
+    public void calculateFitness(Workers workers) {
+        workers.forEach(chromosomes.size(), i -> chromosomes.get(i).calculateFitness());
+    }
+
+    /**
+     * @param amount amount of chromosomes to return
+     * @return the chromosomes with the highest fitness, starting with the best one
+     */
+    public List<Chromosome> best(int amount) {
+        if (amount == 1) {
+            // avoids sorting the whole population, since the best chromosome is determined after every generation
+            return List.of(chromosomes.stream().max(Comparator.comparingInt(Chromosome::fitness)).orElseThrow());
+        }
+        return chromosomes.stream()
+                .sorted(Comparator.comparingInt(Chromosome::fitness).reversed())
+                .limit(amount)
+                .toList();
+    }
+
+    /**
+     * Replaces the chromosomes with the lowest fitness by the given chromosomes, so the size of this population stays the same
+     *
+     * @param replacements chromosomes which replace the worst ones, at most as many as this population contains
+     */
+    public void replaceWorst(List<Chromosome> replacements) {
+        var worstIndices = IntStream.range(0, chromosomes.size()).boxed()
+                .sorted(Comparator.comparingInt(i -> chromosomes.get(i).fitness()))
+                .limit(replacements.size())
+                .toList();
+        for (var i = 0; i < worstIndices.size(); i++) {
+            chromosomes.set(worstIndices.get(i), replacements.get(i));
+        }
+    }
+
+    public List<Chromosome> chromosomes() {
+        return chromosomes;
+    }
+}
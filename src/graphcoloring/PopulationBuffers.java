@@ -0,0 +1,200 @@
+package graphcoloring;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Evolves a population without allocating anything per generation: the current and the next generation are two preallocated arrays of
+ * chromosomes, and each child is written into the chromosome of its slot in the next generation, which then becomes the current one.<br>
+ * Each generation selects parents by tournaments, which only sample indices of the current generation, and creates a child of each selected
+ * parent and a random other selected parent by a crossover and a mutation.
+ * The following arguments configure a generation:<br>
+ * tournamentSelectionPercentage, tournamentSizePercentage, mutationPercentage, mutationProbability: see {@link GraphColoring#main(String[])}<br>
+ * crossover: how the parents are merged ({@link Crossover}), by default {@link Crossover#ONE_POINT}<br>
+ * tabuIterations: if greater than 0, each child is additionally improved by a {@link Tabucol} search with this maximum amount of iterations
+ * (memetic mode)<br>
+ * Each slot has its own generator, which is reseeded in every phase of a generation with a seed drawn from the algorithm's generator in a fixed
+ * order, so the children can be created in parallel and the result only depends on the seed
+ */
+public final class PopulationBuffers {
+
+    private final Workers workers;
+    private final double selectionPercentage;
+    private final double tournamentSizePercentage;
+    private final double mutationPercentage;
+    private final double mutationProbability;
+    private final int tabuIterations;
+    private final Crossover crossover;
+
+    private Chromosome[] current;
+    private Chromosome[] next;
+    private int size; // amount of chromosomes of the current generation
+    private int[] parents; // index in the current generation of each selected parent
+    private long[] seeds; // seed of each slot's generator in the current phase
+    private SplitMix64[] generators;
+
+    // state of the running generation, read by the tasks, which are created once so a generation does not allocate them
+    private int selectionSize;
+    private int tournamentSize;
+    private GenerationMonitor.Timings timings;
+    private final IntConsumer select = this::select;
+    private final IntConsumer breed = this::breed;
+
+    /**
+     * @param initial initial population, whose chromosomes become the slots of the current generation
+     * @param args    the JVM arguments
+     * @param workers workers which perform the tournaments and create the children
+     */
+    public PopulationBuffers(Population initial, Map<String, Object> args, Workers workers) {
+        this.workers = workers;
+        this.selectionPercentage = (double) args.get("tournamentSelectionPercentage");
+        this.tournamentSizePercentage = (double) args.get("tournamentSizePercentage");
+        this.mutationPercentage = (double) args.get("mutationPercentage");
+        this.mutationProbability = (double) args.get("mutationProbability");
+        this.tabuIterations = (int) args.getOrDefault("tabuIterations", 0);
+        this.crossover = (Crossover) args.getOrDefault("crossover", Crossover.ONE_POINT);
+
+        current = initial.chromosomes().toArray(new Chromosome[0]);
+        size = current.length;
+        next = new Chromosome[0];
+        parents = new int[0];
+        seeds = new long[0];
+        generators = new SplitMix64[0];
+        ensureCapacity(size);
+    }
+
+    /**
+     * Replaces the current generation by its successor generation
+     *
+     * @param random random number generator of the algorithm
+     */
+    public void advance(RandomGenerator random) {
+        advance(random, null);
+    }
+
+    /**
+     * @param timings receives the durations of the phases or null if they are not measured
+     * @see #advance(RandomGenerator)
+     */
+    void advance(RandomGenerator random, GenerationMonitor.Timings timings) {
+        this.timings = timings;
+        var selectionStart = timings != null ? System.nanoTime() : 0;
+        selectionSize = Math.max(1, (int) Math.round(size * selectionPercentage));
+        // small populations would otherwise lead to empty tournaments without a winner
+        tournamentSize = Math.max(1, (int) Math.round(size * tournamentSizePercentage));
+        ensureCapacity(selectionSize);
+        drawSeeds(random);
+        workers.forEach(selectionSize, select);
+        if (timings != null) {
+            timings.selectionNanos = System.nanoTime() - selectionStart;
+        }
+
+        if (selectionSize == 1) {
+            next[0].copyFrom(current[parents[0]]); // no crossover possible with one parent, so the algorithm stops
+        } else {
+            drawSeeds(random);
+            workers.forEach(selectionSize, breed);
+        }
+        var previous = current;
+        current = next;
+        next = previous;
+        size = selectionSize;
+        this.timings = null;
+    }
+
+    private void drawSeeds(RandomGenerator random) {
+        for (var i = 0; i < selectionSize; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Performs the tournament of the slot: randomly picks chromosomes of the current generation and selects the one with the highest fitness
+     */
+    private void select(int slot) {
+        var random = generators[slot].reseed(seeds[slot]);
+        var winner = random.nextInt(size);
+        for (var i = 1; i < tournamentSize; i++) {
+            var candidate = random.nextInt(size);
+            if (current[candidate].fitness() > current[winner].fitness()) {
+                winner = candidate;
+            }
+        }
+        parents[slot] = winner;
+    }
+
+    /**
+     * Writes the child of the slot's parent and a random other parent into the slot of the next generation
+     */
+    private void breed(int slot) {
+        var random = generators[slot].reseed(seeds[slot]);
+        var first = current[parents[slot]];
+        var second = current[parents[random.nextInt(selectionSize)]];
+        var child = next[slot];
+        var start = timings != null ? System.nanoTime() : 0;
+        crossover.cross(first, second, random, child);
+        var crossoverEnd = timings != null ? System.nanoTime() : 0;
+        child.mutate(mutationPercentage, mutationProbability, random);
+        var mutationEnd = timings != null ? System.nanoTime() : 0;
+        if (tabuIterations > 0) {
+            child.improve(tabuIterations, random);
+        }
+        if (timings != null) {
+            timings.crossoverNanos.add(crossoverEnd - start);
+            timings.mutationNanos.add(mutationEnd - crossoverEnd);
+            timings.localSearchNanos.add(System.nanoTime() - mutationEnd);
+        }
+    }
+
+    /**
+     * Grows the buffers if a generation is larger than all generations before, which only happens with a selection percentage above 1
+     */
+    private void ensureCapacity(int capacity) {
+        if (next.length >= capacity && parents.length >= capacity) {
+            return;
+        }
+        var template = current[0];
+        var oldLength = next.length;
+        next = Arrays.copyOf(next, Math.max(capacity, current.length));
+        for (var i = oldLength; i < next.length; i++) {
+            next[i] = template.copy();
+        }
+        parents = new int[next.length];
+        seeds = new long[next.length];
+        generators = Arrays.copyOf(generators, next.length);
+        for (var i = 0; i < generators.length; i++) {
+            if (generators[i] == null) {
+                generators[i] = new SplitMix64(0);
+            }
+        }
+    }
+
+    /**
+     * @return chromosome with the highest fitness of the current generation, which is overwritten by the generation after the next one
+     */
+    public Chromosome best() {
+        var best = current[0];
+        for (var i = 1; i < size; i++) {
+            if (current[i].fitness() > best.fitness()) {
+                best = current[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return amount of chromosomes of the current generation
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return view of the current generation, whose changes are written through to the slots, valid until the next generation
+     */
+    public Population population() {
+        return new Population(Arrays.asList(current).subList(0, size));
+    }
+}
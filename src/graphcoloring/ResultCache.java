@@ -0,0 +1,383 @@
+package graphcoloring;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Cache of the colorings found for graphs, so a graph which is colored again does not have to be colored from scratch.<br>
+ * A graph is identified by a SHA-256 hash of its vertex IDs and edges, which does not depend on the order of the vertices or edges in the file
+ * (see {@link #hash(Topology)}). For each graph, the cache keeps the coloring with the least colors, since it is also a valid coloring for any
+ * higher amount of colors, so it serves as the upper bound of a search for less colors. Besides, it keeps the highest amount of colors with
+ * which a search has failed for each of the settings of the algorithm (see {@link #failedColors(String, String)}), so a search with
+ * the same settings does not repeat the attempts which have already failed. The colorings are stored with the vertices in ascending order of
+ * their IDs and with as many bits per color as the amount of colors requires.<br>
+ * The cache has two tiers: the recently used colorings in memory up to a maximum amount of bytes, evicting the least recently used ones, and
+ * optionally one file per graph in a directory, which survives the process. Every coloring read from the cache is validated against the graph in
+ * O(|E|), so neither a hash collision nor a damaged file leads to an invalid result.<br>
+ * All methods can be called by several threads at the same time
+ */
+public final class ResultCache {
+
+    private static final int MAGIC = 0x43434347; // "GCCC" in little-endian
+    private static final int VERSION = 2;
+    private static final int HEADER_INTS = 4;
+    private static final String FILE_EXTENSION = ".gcc";
+    private static final long ENTRY_OVERHEAD = 64; // estimated bytes of an entry besides its packed colors
+
+    private final long maxBytes;
+    private final Path directory; // null if the colorings are only kept in memory
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); // in the order of their last access
+    private long bytes; // estimated bytes of all entries in memory
+
+    /**
+     * @param maxBytes  maximum amount of bytes of the colorings kept in memory
+     * @param directory directory of the files of the colorings, which is created if necessary, or null to keep them only in memory
+     * @throws IOException if the directory cannot be created
+     */
+    public ResultCache(long maxBytes, Path directory) throws IOException {
+        this.maxBytes = maxBytes;
+        this.directory = directory;
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+    }
+
+    /**
+     * Hashes the ID and the sorted IDs of the adjacencies of each vertex in ascending order of the IDs, so two topologies have the same hash if
+     * they contain the same vertices and edges, regardless of their order
+     *
+     * @param topology topology of the graph
+     * @return hexadecimal SHA-256 hash of the graph
+     */
+    public static String hash(Topology topology) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+        var sortedIndices = topology.tables()[4];
+        var buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        var adjacencyIds = new int[topology.maxDegree()];
+        buffer.putInt(topology.size());
+        for (var i = 0; i < topology.size(); i++) {
+            var vertex = sortedIndices.get(i);
+            var degree = topology.degree(vertex);
+            for (var j = 0; j < degree; j++) {
+                adjacencyIds[j] = topology.id(topology.neighbour(topology.start(vertex) + j));
+            }
+            Arrays.sort(adjacencyIds, 0, degree);
+            putInt(digest, buffer, topology.id(vertex));
+            putInt(digest, buffer, degree);
+            for (var j = 0; j < degree; j++) {
+                putInt(digest, buffer, adjacencyIds[j]);
+            }
+        }
+        digest.update(buffer.flip());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void putInt(MessageDigest digest, ByteBuffer buffer, int value) {
+        if (buffer.remaining() < Integer.BYTES) {
+            digest.update(buffer.flip());
+            buffer.clear();
+        }
+        buffer.putInt(value);
+    }
+
+    /**
+     * @param topology topology of the graph
+     * @param hash     hash of the topology
+     * @return valid coloring of the graph with the least colors in the cache, indexed by the vertices' dense indices, or null
+     */
+    public int[] best(Topology topology, String hash) {
+        var entry = entry(hash);
+        return entry != null ? coloring(topology, hash, entry) : null;
+    }
+
+    /**
+     * The failures belong to the coloring of {@link #best(Topology, String)} and are only meaningful if it has returned a valid coloring
+     *
+     * @param hash     hash of the topology
+     * @param settings settings of the algorithm, e.g. {@link GraphColoring#geneticSettings(Map)}
+     * @return highest amount of colors with which the algorithm has failed with these settings or 0 if none has been stored
+     */
+    public int failedColors(String hash, String settings) {
+        var entry = entry(hash);
+        return entry != null ? entry.failures().getOrDefault(settings, 0) : 0;
+    }
+
+    /**
+     * Stores the coloring if the cache does not contain a coloring of the graph with at most as many colors
+     *
+     * @param topology topology of the graph
+     * @param hash     hash of the topology
+     * @param coloring valid coloring of the graph, indexed by the vertices' dense indices
+     */
+    public void put(Topology topology, String hash, int[] coloring) {
+        put(topology, hash, coloring, null, 0);
+    }
+
+    /**
+     * Stores the coloring if the cache does not contain a coloring of the graph with at most as many colors, and the amount of colors with
+     * which the algorithm has failed if it is higher than the stored one of the settings
+     *
+     * @param settings     settings of the algorithm or null if no failure is stored
+     * @param failedColors highest amount of colors with which the algorithm has failed, 0 if it has not failed
+     * @see #put(Topology, String, int[])
+     */
+    public void put(Topology topology, String hash, int[] coloring, String settings, int failedColors) {
+        var colors = GraphColoring.countColors(coloring);
+        var existing = best(topology, hash); // validated, so an invalid entry does not prevent storing the coloring
+        var better = existing == null || GraphColoring.countColors(existing) > colors;
+        if (!better && (settings == null || failedColors <= failedColors(hash, settings))) {
+            return;
+        }
+        var packed = better ? Entry.pack(coloring, colors, topology.tables()[4]) : null;
+        // the file is written while holding the lock, so a worse coloring or an older failure of another thread cannot overwrite it afterwards
+        synchronized (this) {
+            var current = entry(hash); // also reads the file, so its failures are kept if the entry has been evicted in the meantime
+            var failures = new TreeMap<>(current != null ? current.failures() : Map.<String, Integer>of());
+            if (settings != null && failedColors > 0) {
+                failures.merge(settings, failedColors, Math::max);
+            }
+            Entry entry;
+            if (current == null || current.colors() > colors) {
+                entry = (packed != null ? packed : Entry.pack(coloring, colors, topology.tables()[4])).withFailures(failures);
+            } else if (!failures.equals(current.failures())) {
+                entry = current.withFailures(failures);
+            } else {
+                return; // another thread has stored a better coloring and the failure in the meantime
+            }
+            store(hash, entry);
+            if (directory != null) {
+                try {
+                    write(hash, entry);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("The coloring cannot be written to the cache.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return entry of the graph from memory or, if it is not in memory, from its file, or null
+     */
+    private Entry entry(String hash) {
+        synchronized (this) {
+            var entry = entries.get(hash);
+            if (entry != null || directory == null) {
+                return entry;
+            }
+        }
+        Entry entry;
+        try {
+            entry = read(hash);
+        } catch (IOException e) {
+            throw new UncheckedIOException("The coloring cannot be read from the cache.", e);
+        }
+        if (entry == null) {
+            return null;
+        }
+        synchronized (this) {
+            var current = entries.get(hash);
+            if (current != null && current.colors() <= entry.colors()) {
+                return current;
+            }
+            store(hash, entry);
+            return entry;
+        }
+    }
+
+    private void store(String hash, Entry entry) {
+        var previous = entries.put(hash, entry);
+        if (previous != null) {
+            bytes -= previous.bytes();
+        }
+        bytes += entry.bytes();
+        // evicts the least recently used entries, but always keeps the new one
+        var iterator = entries.entrySet().iterator();
+        while (bytes > maxBytes && entries.size() > 1) {
+            var eldest = iterator.next();
+            if (eldest.getValue() != entry) {
+                bytes -= eldest.getValue().bytes();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @return coloring of the entry if it is a valid coloring of the graph, otherwise the entry is removed and null is returned
+     */
+    private int[] coloring(Topology topology, String hash, Entry entry) {
+        var coloring = entry.vertices() == topology.size() ? entry.unpack(topology.tables()[4]) : null;
+        if (coloring != null && Graph.validate(topology, coloring)) {
+            return coloring;
+        }
+        synchronized (this) {
+            if (entries.get(hash) == entry) {
+                entries.remove(hash);
+                bytes -= entry.bytes();
+            }
+        }
+        if (directory != null) {
+            try {
+                Files.deleteIfExists(file(hash));
+            } catch (IOException e) {
+                throw new UncheckedIOException("The invalid coloring cannot be removed from the cache.", e);
+            }
+        }
+        return null;
+    }
+
+    private Path file(String hash) {
+        return directory.resolve(hash + FILE_EXTENSION);
+    }
+
+    /**
+     * Layout (all values little-endian): magic, version, amount of vertices and amount of colors as ints, followed by the packed colors as longs,
+     * the amount of failures as int and for each failure the failed amount of colors and the length of the settings as ints, followed by the
+     * settings in UTF-8
+     */
+    private void write(String hash, Entry entry) throws IOException {
+        var failures = new LinkedHashMap<byte[], Integer>();
+        var size = HEADER_INTS * Integer.BYTES + entry.bits().length * Long.BYTES + Integer.BYTES;
+        for (var failure : entry.failures().entrySet()) {
+            var settings = failure.getKey().getBytes(StandardCharsets.UTF_8);
+            failures.put(settings, failure.getValue());
+            size += 2 * Integer.BYTES + settings.length;
+        }
+        var buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(entry.vertices()).putInt(entry.colors());
+        buffer.asLongBuffer().put(entry.bits());
+        buffer.position(buffer.position() + entry.bits().length * Long.BYTES);
+        buffer.putInt(failures.size());
+        failures.forEach((settings, failedColors) -> buffer.putInt(failedColors).putInt(settings.length).put(settings));
+        // writes to a temporary file first, so no other process reads a partially written file
+        var path = file(hash);
+        var temporary = Files.createTempFile(directory, hash, ".tmp");
+        Files.write(temporary, buffer.array());
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return entry stored in the file of the graph or null if there is no such file or it is not a valid file of this version
+     */
+    private Entry read(String hash) throws IOException {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file(hash));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        var buffer = ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN);
+        if (content.length < HEADER_INTS * Integer.BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            return null;
+        }
+        var vertices = buffer.getInt();
+        var colors = buffer.getInt();
+        if (vertices < 0 || colors < 0 || buffer.remaining() < (long) Entry.words(vertices, colors) * Long.BYTES + Integer.BYTES) {
+            return null;
+        }
+        var bits = new long[Entry.words(vertices, colors)];
+        buffer.asLongBuffer().get(bits);
+        buffer.position(buffer.position() + bits.length * Long.BYTES);
+        var failures = new TreeMap<String, Integer>();
+        for (var i = buffer.getInt(); i > 0; i--) {
+            if (buffer.remaining() < 2 * Integer.BYTES) {
+                return null;
+            }
+            var failedColors = buffer.getInt();
+            var length = buffer.getInt();
+            if (failedColors < 1 || length < 0 || buffer.remaining() < length) {
+                return null;
+            }
+            var settings = new byte[length];
+            buffer.get(settings);
+            failures.put(new String(settings, StandardCharsets.UTF_8), failedColors);
+        }
+        return buffer.hasRemaining() ? null : new Entry(vertices, colors, bits, Map.copyOf(failures));
+    }
+
+    /**
+     * @param vertices amount of vertices of the graph
+     * @param colors   amount of colors of the coloring
+     * @param bits     color of each vertex in ascending order of the vertex IDs, with the bits of {@link #bitsPerColor(int)}
+     * @param failures highest amount of colors with which the algorithm has failed for each of its settings
+     */
+    private record Entry(int vertices, int colors, long[] bits, Map<String, Integer> failures) {
+
+        static Entry pack(int[] coloring, int colors, IntBuffer sortedIndices) {
+            var bitsPerColor = bitsPerColor(colors);
+            var bits = new long[words(coloring.length, colors)];
+            for (var i = 0; i < coloring.length; i++) {
+                var position = (long) i * bitsPerColor;
+                var value = (long) coloring[sortedIndices.get(i)];
+                bits[(int) (position >>> 6)] |= value << position;
+                var overflow = (int) (position & 63) + bitsPerColor - Long.SIZE; // bits which do not fit into the word anymore
+                if (overflow > 0) {
+                    bits[(int) (position >>> 6) + 1] |= value >>> (bitsPerColor - overflow);
+                }
+            }
+            return new Entry(coloring.length, colors, bits, Map.of());
+        }
+
+        /**
+         * @return color index of each vertex, indexed by the vertices' dense indices, or null if a color exceeds the amount of colors
+         */
+        int[] unpack(IntBuffer sortedIndices) {
+            var bitsPerColor = bitsPerColor(colors);
+            var mask = (1L << bitsPerColor) - 1;
+            var coloring = new int[vertices];
+            for (var i = 0; i < vertices; i++) {
+                var position = (long) i * bitsPerColor;
+                var value = bits[(int) (position >>> 6)] >>> position;
+                var overflow = (int) (position & 63) + bitsPerColor - Long.SIZE;
+                if (overflow > 0) {
+                    value |= bits[(int) (position >>> 6) + 1] << (bitsPerColor - overflow);
+                }
+                var color = (int) (value & mask);
+                if (color >= colors) {
+                    return null;
+                }
+                coloring[sortedIndices.get(i)] = color;
+            }
+            return coloring;
+        }
+
+        static int bitsPerColor(int colors) {
+            return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(colors - 1));
+        }
+
+        static int words(int vertices, int colors) {
+            return (int) (((long) vertices * bitsPerColor(colors) + Long.SIZE - 1) / Long.SIZE);
+        }
+
+        Entry withFailures(Map<String, Integer> failures) {
+            return new Entry(vertices, colors, bits, Map.copyOf(failures));
+        }
+
+        long bytes() {
+            var bytes = ENTRY_OVERHEAD + (long) bits.length * Long.BYTES;
+            for (var settings : failures.keySet()) {
+                bytes += ENTRY_OVERHEAD + 2L * settings.length();
+            }
+            return bytes;
+        }
+    }
+}
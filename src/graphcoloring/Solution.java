@@ -0,0 +1,15 @@
+package graphcoloring;
+
+/**
+ * Result of a run of the genetic algorithm
+ *
+ * @param best        chromosome with the highest fitness found during the whole run
+ * @param generations amount of generations which have been generated after the initial population
+ * @param reason      why the algorithm stopped
+ */
+public record Solution(Chromosome best, int generations, Termination.Reason reason) {
+
+    public boolean valid() {
+        return best.valid();
+    }
+}
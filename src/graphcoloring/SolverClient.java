@@ -0,0 +1,94 @@
+package graphcoloring;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Client of a {@link SolverService} which listens on a port of the loopback interface.<br>
+ * The results arrive in the order in which the jobs finish, and the service stops reading jobs while too many of them are pending, so a client
+ * which submits many jobs has to receive the results on another thread than the one submitting the jobs
+ */
+public final class SolverClient implements AutoCloseable {
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final Writer writer;
+
+    /**
+     * @param port port of the service
+     * @throws IOException if the service cannot be reached
+     */
+    public SolverClient(int port) throws IOException {
+        socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param job job in the format of {@link SolverService}, blocks while the service does not accept further jobs
+     * @throws IOException if the connection is closed
+     */
+    public void submit(String job) throws IOException {
+        writer.write(job);
+        writer.write('\n');
+        writer.flush();
+    }
+
+    /**
+     * Tells the service that no further jobs follow, the results of the submitted jobs can still be received
+     *
+     * @throws IOException if the connection is closed
+     */
+    public void finish() throws IOException {
+        writer.flush();
+        socket.shutdownOutput();
+    }
+
+    /**
+     * @return next result of a job or null if the results of all jobs have been received after {@link #finish()}
+     * @throws IOException if the connection is closed
+     */
+    public String receive() throws IOException {
+        return reader.readLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    /**
+     * Submits the jobs of the standard input to the service and prints each result as soon as it arrives
+     *
+     * @param args Index 0: port of the service (Integer)
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        try (var client = new SolverClient(Integer.parseInt(args[0]))) {
+            var receiver = new Thread(() -> {
+                try {
+                    String result;
+                    while ((result = client.receive()) != null) {
+                        System.out.println(result);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            receiver.start();
+            var input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            String job;
+            while ((job = input.readLine()) != null) {
+                client.submit(job);
+            }
+            client.finish();
+            receiver.join();
+        }
+    }
+}
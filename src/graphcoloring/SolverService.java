@@ -0,0 +1,321 @@
+package graphcoloring;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Resident solver which colors a stream of graphs (jobs) in one JVM, so a job does not pay the JVM startup, the class loading and the JIT
+ * warm-up again, which dominate the duration of small graphs.<br>
+ * Jobs are read line by line from a stream, e.g. the standard input or a connection to a local socket ({@link #listen(ServerSocket)}):
+ * "&lt;job ID&gt; &lt;arguments&gt;", where the arguments are the ones of {@link GraphColoring#main(String[])}: the seven positional arguments run the
+ * genetic algorithm, otherwise the named argument algorithm selects the algorithm. The named argument graph is required, the amount of attempts
+ * is ignored and parallelism defaults to 1, since the jobs themselves are the parallel tasks. Additional named arguments:<br>
+ * deadlineMillis: maximum duration of the job from the moment it has been read (Long). The genetic and the exact algorithm return their best
+ * coloring at the deadline. Otherwise the result is written at the deadline without a coloring and the algorithm is cancelled: the genetic
+ * algorithm, Tabucol and the exact search stop at their next check, the greedy and DSatur algorithms finish their current coloring<br>
+ * coloring: "true" to include the coloring in the result, default "false"<br>
+ * Empty lines and lines starting with '#' are ignored. A result line is written as soon as its job is finished, so the results arrive in the
+ * order in which the jobs finish:<br>
+ * "&lt;job ID&gt; OK colors=&lt;colors&gt; millis=&lt;duration&gt; [coloring=&lt;vertex ID&gt;:&lt;color&gt;,...]",
+ * "&lt;job ID&gt; DEADLINE [colors=... coloring=...] millis=&lt;duration&gt;" if the deadline has been reached, with the best coloring if there is one,
+ * or "&lt;job ID&gt; ERROR &lt;message&gt;".<br>
+ * Each job runs on its own virtual thread, which loads the graph and waits for the coloring, while the algorithm itself runs on a fixed pool of
+ * CPU workers, so waiting jobs only cost memory.
+ * At most a fixed amount of jobs are accepted at the same time: reading the next job blocks until a job is finished, so a client which sends
+ * jobs faster than they are solved is slowed down by its own blocking writes (backpressure). A job whose deadline has passed keeps its
+ * admission until its worker has stopped, so cancelled algorithms never occupy more workers than the limit allows
+ */
+public final class SolverService implements AutoCloseable {
+
+    private static final long DEADLINE_GRACE_NANOS = TimeUnit.MILLISECONDS.toNanos(100); // time the algorithms get to return at the deadline
+
+    private final ExecutorService jobThreads;
+    private final ExecutorService workers;
+    private final Semaphore admissions;
+    private final ResultCache cache; // null if the genetic algorithm does not use a cache
+
+    /**
+     * @param workers        amount of threads executing the algorithms
+     * @param maxPendingJobs maximum amount of jobs which are queued or executed at the same time
+     * @param cache          cache of the genetic algorithm's colorings shared by all jobs or null
+     */
+    public SolverService(int workers, int maxPendingJobs, ResultCache cache) {
+        if (workers < 1 || maxPendingJobs < 1) {
+            throw new IllegalArgumentException("The amounts of workers and pending jobs must be at least 1.");
+        }
+        this.jobThreads = Executors.newVirtualThreadPerTaskExecutor();
+        this.workers = Executors.newFixedThreadPool(workers);
+        this.admissions = new Semaphore(maxPendingJobs);
+        this.cache = cache;
+    }
+
+    /**
+     * Reads the jobs until the reader ends and writes the result of each job as soon as it is finished
+     *
+     * @param reader source of the jobs
+     * @param writer receives the results, it is flushed after each result
+     * @throws IOException          if the jobs cannot be read
+     * @throws InterruptedException if the thread is interrupted while waiting for a job to be accepted or for the jobs to finish
+     */
+    public void serve(BufferedReader reader, Writer writer) throws IOException, InterruptedException {
+        var running = new Phaser(1); // the reading thread and each running job of this reader
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                var job = line.strip();
+                if (job.isEmpty() || job.startsWith("#")) {
+                    continue;
+                }
+                admissions.acquire(); // blocks the reader if too many jobs are pending
+                running.register();
+                var accepted = System.nanoTime();
+                jobThreads.execute(() -> {
+                    try {
+                        run(job, accepted, result -> write(writer, result));
+                    } finally {
+                        admissions.release();
+                        running.arriveAndDeregister();
+                    }
+                });
+            }
+        } finally {
+            running.awaitAdvanceInterruptibly(running.arrive());
+        }
+    }
+
+    /**
+     * Accepts connections until the server socket is closed and serves the jobs of each connection on its own thread, all connections share the
+     * workers and the limit of pending jobs
+     *
+     * @param server server socket, which should be bound to the loopback address
+     * @throws IOException if a connection cannot be accepted
+     */
+    public void listen(ServerSocket server) throws IOException {
+        while (true) {
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (SocketException e) {
+                if (server.isClosed()) {
+                    return;
+                }
+                throw e;
+            }
+            jobThreads.execute(() -> {
+                try (socket;
+                     var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                     var writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+                    serve(reader, writer);
+                } catch (IOException e) {
+                    // the client has closed the connection, its remaining results cannot be delivered
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+    }
+
+    private static void write(Writer writer, String result) {
+        synchronized (writer) {
+            try {
+                writer.write(result);
+                writer.write('\n');
+                writer.flush();
+            } catch (IOException e) {
+                // the client has closed the connection, so there is nobody to receive the result
+            }
+        }
+    }
+
+    /**
+     * Executes the job on the calling thread, except for the algorithm, which is executed by a worker. The method only returns when the worker has
+     * finished the job, even if the result has already been passed to the output at the deadline
+     *
+     * @param job      job without the trailing line break
+     * @param accepted time at which the job has been read, in terms of {@link System#nanoTime()}
+     * @param output   receives the result line of the job
+     */
+    void run(String job, long accepted, Consumer<String> output) {
+        var tokens = job.split("\\s+");
+        var id = tokens[0];
+        var options = new HashMap<String, String>();
+        var positionalArgs = new ArrayList<String>();
+        for (var i = 1; i < tokens.length; i++) {
+            var separator = tokens[i].indexOf('=');
+            if (separator > 0) {
+                options.put(tokens[i].substring(0, separator), tokens[i].substring(separator + 1));
+            } else {
+                positionalArgs.add(tokens[i]);
+            }
+        }
+        var cancellation = new AtomicBoolean(); // stops the algorithm when the job is abandoned
+        Future<int[]> future = null;
+        try {
+            var deadline = options.containsKey("deadlineMillis") ? accepted + TimeUnit.MILLISECONDS.toNanos(Long.parseLong(options.get("deadlineMillis"))) : null;
+            if (!options.containsKey("graph")) {
+                throw new IllegalArgumentException("The job does not name a graph.");
+            }
+            var path = Path.of(options.get("graph"));
+            var format = options.containsKey("format") ? GraphLoader.Format.valueOf(options.get("format").toUpperCase()) : GraphLoader.Format.of(path);
+            var topology = GraphLoader.load(path, format); // reading the file does not need a worker
+            if (topology.hasDuplicateIds()) {
+                throw new IllegalArgumentException("There are multiple vertices with the same ID.");
+            }
+
+            // a job which is still queued when it is abandoned is not executed anymore
+            future = workers.submit(() -> cancellation.get() ? null : solve(topology, positionalArgs, options, deadline, cancellation));
+            int[] coloring;
+            try {
+                coloring = deadline == null ? future.get() : future.get(deadline + DEADLINE_GRACE_NANOS - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                output.accept(id + " DEADLINE millis=" + millis(accepted));
+                return;
+            }
+            var status = deadline != null && System.nanoTime() - deadline > 0 ? " DEADLINE" : " OK";
+            var result = new StringBuilder(id).append(status).append(" colors=").append(GraphColoring.countColors(coloring))
+                    .append(" millis=").append(millis(accepted));
+            if (Boolean.parseBoolean(options.getOrDefault("coloring", "false"))) {
+                var colors = new StringJoiner(",", " coloring=", "");
+                for (var vertex = 0; vertex < coloring.length; vertex++) {
+                    colors.add(topology.id(vertex) + ":" + coloring[vertex]);
+                }
+                result.append(colors);
+            }
+            output.accept(result.toString());
+        } catch (ExecutionException e) {
+            output.accept(error(id, e.getCause()));
+        } catch (IOException e) {
+            output.accept(error(id, new IOException("The graph cannot be read: " + e.getMessage(), e)));
+        } catch (RuntimeException e) {
+            output.accept(error(id, e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            output.accept(error(id, e));
+        } finally {
+            cancellation.set(true);
+            if (future != null) {
+                awaitWorker(future);
+            }
+        }
+    }
+
+    /**
+     * Waits until the worker has finished the job, whose result has already been reported
+     */
+    private static void awaitWorker(Future<?> future) {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            // the error has already been reported
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // the service is shutting down, the worker stops at its next check of the cancellation
+        }
+    }
+
+    private static long millis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static String error(String id, Throwable cause) {
+        var message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return id + " ERROR " + message.replaceAll("\\s+", " "); // the result must stay on one line
+    }
+
+    /**
+     * Colors the graph with the algorithm of the job, which is only executed by a worker
+     *
+     * @param deadline     deadline of the job in terms of {@link System#nanoTime()} or null
+     * @param cancellation flag which stops the algorithm once it is set
+     * @return valid coloring of the graph
+     */
+    private int[] solve(Topology topology, List<String> positionalArgs, Map<String, String> options, Long deadline, AtomicBoolean cancellation) {
+        var strategy = ColorSearch.Strategy.valueOf(options.getOrDefault("colorSearch", "descending").toUpperCase());
+        Function<Topology, int[]> algorithm;
+        if (positionalArgs.size() == 7) {
+            var args = GraphColoring.geneticArguments(positionalArgs, options);
+            if (deadline != null) {
+                args.put("deadlineNanos", deadline);
+            }
+            if (cache != null) {
+                args.put("resultCache", cache);
+            }
+            args.put("cancellation", cancellation);
+            algorithm = graph -> GraphColoring.minimumGeneticColoring(new Graph(graph), args);
+        } else if (!positionalArgs.isEmpty()) {
+            throw new IllegalArgumentException("A job has either the 7 arguments of the genetic algorithm or no positional arguments.");
+        } else {
+            var name = options.getOrDefault("algorithm", "greedy");
+            algorithm = switch (name) {
+                case "greedy" -> {
+                    var ordering = GreedyColoring.Ordering.valueOf(options.getOrDefault("greedyOrdering", "bfs").toUpperCase());
+                    yield graph -> GraphColoring.minimumGreedyColoring(new Graph(graph), strategy, ordering);
+                }
+                case "dsatur" -> DSatur::color;
+                case "tabucol" -> {
+                    var random = options.containsKey("seed") ? new SplittableRandom(Long.parseLong(options.get("seed"))) : new SplittableRandom();
+                    var iterations = Integer.parseInt(options.getOrDefault("tabuIterations", "100000"));
+                    yield graph -> GraphColoring.minimumTabuColoring(graph, strategy, iterations, random, cancellation);
+                }
+                case "exact" -> {
+                    var parallelism = Integer.parseInt(options.getOrDefault("parallelism", "1"));
+                    var timeLimit = options.containsKey("timeLimitMillis") ? Duration.ofMillis(Long.parseLong(options.get("timeLimitMillis"))) : null;
+                    yield graph -> ExactColoring.solve(graph, remaining(timeLimit, deadline), parallelism, cancellation).coloring();
+                }
+                default -> throw new IllegalArgumentException("Unknown algorithm \"" + name + "\".");
+            };
+        }
+        if (Boolean.parseBoolean(options.getOrDefault("reduce", "false"))) {
+            var decomposition = Decomposition.of(topology);
+            try (var single = new Workers(1)) { // the kernels are colored one after another by this worker
+                return decomposition.color(single, kernel -> algorithm.apply(decomposition.kernels().get(kernel)));
+            }
+        }
+        return algorithm.apply(topology);
+    }
+
+    /**
+     * @return the shorter of the time limit and the time until the deadline, or null if there is neither
+     */
+    private static Duration remaining(Duration timeLimit, Long deadline) {
+        if (deadline == null) {
+            return timeLimit;
+        }
+        var remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        return timeLimit == null || remaining.compareTo(timeLimit) < 0 ? remaining : timeLimit;
+    }
+
+    /**
+     * Stops accepting jobs, lets the running jobs finish and stops the workers afterwards
+     */
+    @Override
+    public void close() {
+        jobThreads.shutdown();
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,44 @@
+package graphcoloring;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * SplitMix64 random number generator, the algorithm of {@link java.util.SplittableRandom} with a fixed gamma, whose state can be reset.<br>
+ * A generation of the genetic algorithm gives each child its own generator, so the result does not depend on the thread which creates the child.
+ * Instead of splitting a new generator for every child, each slot of the population keeps one instance, which is reseeded with a seed drawn
+ * from the algorithm's generator in a fixed order
+ */
+public final class SplitMix64 implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * @param seed new state of this generator
+     * @return this generator
+     */
+    public SplitMix64 reseed(long seed) {
+        this.state = seed;
+        return this;
+    }
+
+    /**
+     * @return current state of this generator, which continues with the same numbers after {@link #reseed(long)} with this state
+     */
+    public long state() {
+        return state;
+    }
+
+    @Override
+    public long nextLong() {
+        var z = state += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,271 @@
+package graphcoloring;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.random.RandomGenerator;
+
+/**
+ * Tabu search (Tabucol) which repeatedly recolors a conflicting vertex, i.e. a vertex with the same color as one of its adjacencies, until the
+ * coloring has no conflicts or the maximum amount of iterations is reached.<br>
+ * For each vertex and color, the amount of adjacencies with this color (= gamma) is kept in an n x k table, so the change of conflicts of
+ * recoloring a vertex is looked up in constant time, and each move only updates the entries of the vertex's adjacencies in O(deg).
+ * Each iteration performs the best move among all colors of the conflicting vertices in O(|conflicting vertices| * k), even if it increases the
+ * conflicts. After a vertex has lost a color, it must not get this color back for a number of iterations (= tabu tenure), unless the move would
+ * lead to a coloring with less conflicts than any coloring before (aspiration)
+ */
+public final class Tabucol {
+
+    private static final int NONE = -1;
+    private static final int RANDOM_TENURE = 10; // the tenure of a move is a random number below this plus a share of the conflicting vertices
+    private static final double CONFLICT_TENURE_FACTOR = 0.6;
+    private static final int CANCELLATION_CHECK_INTERVAL = 1 << 10; // amount of iterations between two checks of the cancellation
+
+    // each thread reuses its own tables, so improving many chromosomes in a row does not allocate them again
+    private static final ThreadLocal<Workspace> WORKSPACES = ThreadLocal.withInitial(Workspace::new);
+
+    private Tabucol() {
+    }
+
+    /**
+     * Colors all vertices randomly and improves the coloring with the tabu search
+     *
+     * @param topology      topology of the graph
+     * @param colors        amount of available colors
+     * @param maxIterations maximum amount of moves
+     * @param random        random number generator for the initial coloring and the tenures
+     * @return coloring with the least conflicts found, which is only valid if it has no conflicts
+     */
+    public static int[] color(Topology topology, int colors, int maxIterations, RandomGenerator random) {
+        return color(topology, colors, maxIterations, random, null);
+    }
+
+    /**
+     * @param cancellation flag which stops the search once it is set or null, it is checked every few iterations
+     * @see #color(Topology, int, int, RandomGenerator)
+     */
+    public static int[] color(Topology topology, int colors, int maxIterations, RandomGenerator random, AtomicBoolean cancellation) {
+        var coloring = new int[topology.size()];
+        for (var vertex = 0; vertex < coloring.length; vertex++) {
+            coloring[vertex] = random.nextInt(colors);
+        }
+        WORKSPACES.get().prepare(topology, colors, coloring).search(maxIterations, random, cancellation);
+        return coloring;
+    }
+
+    /**
+     * Improves the given coloring with the tabu search
+     *
+     * @param topology      topology of the graph
+     * @param colors        amount of available colors
+     * @param coloring      color index of each vertex below the amount of colors, receives the coloring with the least conflicts found
+     * @param maxIterations maximum amount of moves
+     * @param random        random number generator for the tenures and to choose between equally good moves
+     * @return amount of conflicts of the resulting coloring
+     */
+    public static int improve(Topology topology, int colors, int[] coloring, int maxIterations, RandomGenerator random) {
+        return WORKSPACES.get().prepare(topology, colors, coloring).search(maxIterations, random, null);
+    }
+
+    /**
+     * Improves the given genes of a chromosome with the tabu search, the search works on a copy of the genes kept by the thread's workspace
+     *
+     * @param topology      topology of the graph
+     * @param colors        amount of available colors
+     * @param genes         color index of each vertex below the amount of colors, receives the coloring with the least conflicts found
+     * @param maxIterations maximum amount of moves
+     * @param random        random number generator for the tenures and to choose between equally good moves
+     * @return amount of conflicts of the resulting coloring
+     * @see #improve(Topology, int, int[], int, RandomGenerator)
+     */
+    public static int improve(Topology topology, int colors, short[] genes, int maxIterations, RandomGenerator random) {
+        var workspace = WORKSPACES.get();
+        var coloring = workspace.geneBuffer(genes.length);
+        for (var i = 0; i < genes.length; i++) {
+            coloring[i] = genes[i];
+        }
+        var conflicts = workspace.prepare(topology, colors, coloring).search(maxIterations, random, null);
+        for (var i = 0; i < genes.length; i++) {
+            genes[i] = (short) coloring[i];
+        }
+        return conflicts;
+    }
+
+    /**
+     * Tables of one search, which are only grown if a larger graph or more colors are used
+     */
+    private static final class Workspace {
+
+        private Topology topology;
+        private int colors;
+        private int[] coloring;
+        private int conflicts;
+
+        private int[] gamma = new int[0]; // amount of adjacencies of each vertex (row) with each color (column)
+        private int[] tabuUntil = new int[0]; // iteration until which a vertex (row) must not get a color (column)
+
+        // set of the vertices which have at least one conflict, with the position of each vertex in the set or NONE
+        private int[] conflicting = new int[0];
+        private int[] positions = new int[0];
+        private int conflictingSize;
+
+        private int[] geneBuffer = new int[0]; // coloring of the genes of a chromosome
+
+        // moves since the coloring with the least conflicts, which are undone at the end
+        private int[] movedVertices = new int[16];
+        private int[] previousColors = new int[16];
+        private int moves;
+
+        /**
+         * @return buffer with at least the given length
+         */
+        int[] geneBuffer(int length) {
+            if (geneBuffer.length < length) {
+                geneBuffer = new int[length];
+            }
+            return geneBuffer;
+        }
+
+        Workspace prepare(Topology topology, int colors, int[] coloring) {
+            var cells = (long) topology.size() * colors;
+            if (cells > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("The graph has too many vertices for " + colors + " colors.");
+            }
+            this.topology = topology;
+            this.colors = colors;
+            this.coloring = coloring;
+            if (gamma.length < cells) {
+                gamma = new int[(int) cells];
+                tabuUntil = new int[(int) cells];
+            } else {
+                Arrays.fill(gamma, 0, (int) cells, 0);
+                Arrays.fill(tabuUntil, 0, (int) cells, 0);
+            }
+            if (positions.length < topology.size()) {
+                conflicting = new int[topology.size()];
+                positions = new int[topology.size()];
+            }
+            Arrays.fill(positions, 0, topology.size(), NONE);
+            conflictingSize = 0;
+            moves = 0;
+
+            var doubleConflicts = 0;
+            for (var vertex = 0; vertex < topology.size(); vertex++) {
+                var row = vertex * colors;
+                for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                    gamma[row + coloring[topology.neighbour(i)]]++;
+                }
+                if (gamma[row + coloring[vertex]] > 0) {
+                    addConflicting(vertex);
+                    doubleConflicts += gamma[row + coloring[vertex]];
+                }
+            }
+            conflicts = doubleConflicts / 2; // each conflict has been counted from both endpoints
+            return this;
+        }
+
+        int search(int maxIterations, RandomGenerator random, AtomicBoolean cancellation) {
+            var leastConflicts = conflicts;
+            for (var iteration = 0; iteration < maxIterations && conflicts > 0; iteration++) {
+                if (cancellation != null && iteration % CANCELLATION_CHECK_INTERVAL == 0 && cancellation.get()) {
+                    break;
+                }
+                var bestVertex = NONE;
+                var bestColor = NONE;
+                var bestDelta = Integer.MAX_VALUE;
+                var ties = 0;
+                for (var i = 0; i < conflictingSize; i++) {
+                    var vertex = conflicting[i];
+                    var row = vertex * colors;
+                    var current = gamma[row + coloring[vertex]];
+                    for (var color = 0; color < colors; color++) {
+                        var delta = gamma[row + color] - current;
+                        if (delta > bestDelta || color == coloring[vertex]) {
+                            continue;
+                        }
+                        if (tabuUntil[row + color] > iteration && conflicts + delta >= leastConflicts) {
+                            continue; // tabu and not aspirated
+                        }
+                        if (delta < bestDelta) {
+                            bestDelta = delta;
+                            ties = 0;
+                        }
+                        // chooses uniformly between equally good moves
+                        if (random.nextInt(++ties) == 0) {
+                            bestVertex = vertex;
+                            bestColor = color;
+                        }
+                    }
+                }
+                if (bestVertex == NONE) {
+                    continue; // all moves are tabu, so the iteration only lets the tenures expire
+                }
+
+                var tenure = random.nextInt(RANDOM_TENURE) + (int) (CONFLICT_TENURE_FACTOR * conflictingSize);
+                tabuUntil[bestVertex * colors + coloring[bestVertex]] = iteration + 1 + tenure;
+                move(bestVertex, bestColor);
+                conflicts += bestDelta;
+                if (conflicts < leastConflicts) {
+                    leastConflicts = conflicts;
+                    moves = 0; // the current coloring is the best one, so none of the moves so far has to be undone
+                }
+            }
+
+            // returns to the coloring with the least conflicts
+            for (var i = moves - 1; i >= 0; i--) {
+                coloring[movedVertices[i]] = previousColors[i];
+            }
+            topology = null; // the workspace outlives the search, but must not keep the graph alive
+            coloring = null;
+            return leastConflicts;
+        }
+
+        /**
+         * Recolors the vertex, records the move and updates gamma and the conflicting vertices of the vertex's adjacencies
+         */
+        private void move(int vertex, int color) {
+            var oldColor = coloring[vertex];
+            if (moves == movedVertices.length) {
+                movedVertices = Arrays.copyOf(movedVertices, moves * 2);
+                previousColors = Arrays.copyOf(previousColors, moves * 2);
+            }
+            movedVertices[moves] = vertex;
+            previousColors[moves++] = oldColor;
+            coloring[vertex] = color;
+
+            for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                var adjacency = topology.neighbour(i);
+                var row = adjacency * colors;
+                gamma[row + oldColor]--;
+                gamma[row + color]++;
+                if (coloring[adjacency] == oldColor && gamma[row + oldColor] == 0) {
+                    removeConflicting(adjacency);
+                } else if (coloring[adjacency] == color && gamma[row + color] == 1) {
+                    addConflicting(adjacency);
+                }
+            }
+            if (gamma[vertex * colors + color] > 0) {
+                addConflicting(vertex);
+            } else {
+                removeConflicting(vertex);
+            }
+        }
+
+        private void addConflicting(int vertex) {
+            if (positions[vertex] == NONE) {
+                positions[vertex] = conflictingSize;
+                conflicting[conflictingSize++] = vertex;
+            }
+        }
+
+        private void removeConflicting(int vertex) {
+            var position = positions[vertex];
+            if (position != NONE) {
+                // the last vertex of the set takes the place of the removed vertex
+                var last = conflicting[--conflictingSize];
+                conflicting[position] = last;
+                positions[last] = position;
+                positions[vertex] = NONE;
+            }
+        }
+    }
+}
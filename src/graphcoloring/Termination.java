@@ -0,0 +1,125 @@
+package graphcoloring;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Conditions under which the genetic algorithm stops before it reaches the maximum amount of generations, so it can be used as an anytime
+ * algorithm: whenever it stops, it returns the best chromosome found so far.<br>
+ * The algorithm always stops as soon as a chromosome is a valid coloring. Additionally, it can stop at a deadline, at a target fitness, after a
+ * number of generations without improvement of the best fitness (= stagnation) or when {@link #cancel()} is called from another thread.
+ * The conditions are checked after each generation, so a generation which has already started is completed first.<br>
+ * A termination belongs to one run of the algorithm, since its cancellation cannot be undone, unless several runs share a cancellation flag
+ * ({@link Builder#cancellation(AtomicBoolean)}) which stops all of them
+ */
+public final class Termination {
+
+    private final long deadlineNanos; // in terms of System.nanoTime()
+    private final boolean hasDeadline;
+    private final int targetFitness;
+    private final int stagnationGenerations;
+    private final AtomicBoolean cancelled;
+
+    private Termination(Builder builder) {
+        this.hasDeadline = builder.timeLimit != null;
+        this.deadlineNanos = hasDeadline ? System.nanoTime() + builder.timeLimit.toNanos() : 0;
+        this.targetFitness = builder.targetFitness;
+        this.stagnationGenerations = builder.stagnationGenerations;
+        this.cancelled = builder.cancellation != null ? builder.cancellation : new AtomicBoolean();
+    }
+
+    /**
+     * @return termination which only stops the algorithm at a valid coloring or if it is cancelled
+     */
+    public static Termination none() {
+        return new Builder().build();
+    }
+
+    /**
+     * Requests the algorithm to stop after the current generation. Can be called from any thread
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    public boolean cancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * @param best                         chromosome with the highest fitness of the current generation
+     * @param generationsWithoutImprovement amount of generations since the highest fitness increased the last time
+     * @return reason to stop the algorithm or null if it should continue
+     */
+    public Reason check(Chromosome best, int generationsWithoutImprovement) {
+        if (best.conflicts() == 0) {
+            return Reason.SOLVED;
+        }
+        if (best.fitness() >= targetFitness) {
+            return Reason.TARGET_FITNESS;
+        }
+        if (cancelled()) {
+            return Reason.CANCELLED;
+        }
+        if (hasDeadline && System.nanoTime() - deadlineNanos >= 0) {
+            return Reason.DEADLINE;
+        }
+        if (stagnationGenerations > 0 && generationsWithoutImprovement >= stagnationGenerations) {
+            return Reason.STAGNATION;
+        }
+        return null;
+    }
+
+    public enum Reason {
+        SOLVED, // a chromosome is a valid coloring
+        TARGET_FITNESS,
+        DEADLINE,
+        STAGNATION,
+        CANCELLED,
+        EXHAUSTED // the maximum amount of generations has been reached or the population shrank to one chromosome
+    }
+
+    public static class Builder {
+
+        private Duration timeLimit;
+        private int targetFitness = Integer.MAX_VALUE;
+        private int stagnationGenerations = 0;
+        private AtomicBoolean cancellation;
+
+        /**
+         * The deadline is determined when the termination is built, so the time limit includes everything which happens after building it
+         */
+        public Termination build() {
+            return new Termination(this);
+        }
+
+        public Builder timeLimit(Duration timeLimit) {
+            this.timeLimit = timeLimit;
+            return this;
+        }
+
+        /**
+         * @param targetFitness fitness at which a chromosome is good enough, even if it is not a valid coloring
+         */
+        public Builder targetFitness(int targetFitness) {
+            this.targetFitness = targetFitness;
+            return this;
+        }
+
+        /**
+         * @param stagnationGenerations amount of generations without improvement after which the algorithm stops, 0 to never stop because of stagnation
+         */
+        public Builder stagnationGenerations(int stagnationGenerations) {
+            this.stagnationGenerations = stagnationGenerations;
+            return this;
+        }
+
+        /**
+         * @param cancellation flag which cancels the algorithm once it is set, e.g. shared with the other algorithms of a job
+         */
+        public Builder cancellation(AtomicBoolean cancellation) {
+            this.cancellation = cancellation;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package graphcoloring;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable compressed sparse row (CSR) representation of a graph's adjacency relationships.<br>
+ * Every vertex is addressed by a dense index from 0 to {@link #size()} - 1. The neighbours of the vertex with index v are stored
+ * in {@code neighbours[offsets[v]]} to {@code neighbours[offsets[v + 1] - 1]}, so each edge appears once per endpoint.
+ * The original vertex IDs are kept in a separate table and can be mapped back to dense indices with {@link #indexOf(int)}.<br>
+ * All tables are int buffers, which either wrap arrays on the heap or memory-mapped sections of a {@link GraphSnapshot}, so the algorithms work on
+ * both without copying
+ */
+public final class Topology {
+
+    private final IntBuffer offsets;
+    private final IntBuffer neighbours;
+    private final IntBuffer ids; // dense index (position) -> vertex ID (value)
+
+    // vertex IDs in ascending order and their dense indices, used to look up the index of an ID by binary search
+    private final IntBuffer sortedIds;
+    private final IntBuffer sortedIndices;
+
+    private volatile Optional<DenseAdjacency> dense; // determined on the first request, computing it twice concurrently is harmless
+
+    /**
+     * @param offsets    start of each vertex's neighbours in the neighbour array, with one additional trailing entry
+     * @param neighbours dense indices of all neighbours, grouped by vertex
+     * @param ids        vertex ID of each dense index
+     */
+    public Topology(int[] offsets, int[] neighbours, int[] ids) {
+        this(IntBuffer.wrap(offsets), IntBuffer.wrap(neighbours), IntBuffer.wrap(ids), sortIds(ids));
+    }
+
+    /**
+     * @param offsets       start of each vertex's neighbours in the neighbour buffer, with one additional trailing entry
+     * @param neighbours    dense indices of all neighbours, grouped by vertex
+     * @param ids           vertex ID of each dense index
+     * @param sortedIds     vertex IDs in ascending order
+     * @param sortedIndices dense index of each vertex ID in sortedIds
+     */
+    Topology(IntBuffer offsets, IntBuffer neighbours, IntBuffer ids, IntBuffer sortedIds, IntBuffer sortedIndices) {
+        if (offsets.limit() != ids.limit() + 1 || offsets.get(ids.limit()) != neighbours.limit()
+                || sortedIds.limit() != ids.limit() || sortedIndices.limit() != ids.limit()) {
+            throw new IllegalArgumentException("The offsets do not match the amount of vertices and neighbours.");
+        }
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+        this.ids = ids;
+        this.sortedIds = sortedIds;
+        this.sortedIndices = sortedIndices;
+    }
+
+    private Topology(IntBuffer offsets, IntBuffer neighbours, IntBuffer ids, IntBuffer[] sorted) {
+        this(offsets, neighbours, ids, sorted[0], sorted[1]);
+    }
+
+    /**
+     * @return sorted IDs (index 0) and their dense indices (index 1)
+     */
+    private static IntBuffer[] sortIds(int[] ids) {
+        // packs each ID (upper half) and its index (lower half) into one long, so sorting does not need any boxed values
+        var pairs = new long[ids.length];
+        for (var i = 0; i < ids.length; i++) {
+            pairs[i] = ((long) ids[i] << 32) | i;
+        }
+        Arrays.sort(pairs);
+        var sortedIds = new int[ids.length];
+        var sortedIndices = new int[ids.length];
+        for (var i = 0; i < pairs.length; i++) {
+            sortedIds[i] = (int) (pairs[i] >> 32);
+            sortedIndices[i] = (int) pairs[i];
+        }
+        return new IntBuffer[]{IntBuffer.wrap(sortedIds), IntBuffer.wrap(sortedIndices)};
+    }
+
+    /**
+     * Builds the topology of the given vertices. The dense index of each vertex equals its position in the list
+     *
+     * @param vertices vertices with their adjacencies
+     * @return topology of the vertices
+     */
+    public static Topology of(List<Vertex> vertices) {
+        var indices = new IdentityHashMap<Vertex, Integer>(); // maps each vertex object to its dense index
+        var ids = new int[vertices.size()];
+        var offsets = new int[vertices.size() + 1];
+        for (var i = 0; i < vertices.size(); i++) {
+            var vertex = vertices.get(i);
+            indices.put(vertex, i);
+            ids[i] = vertex.id();
+            offsets[i + 1] = offsets[i] + vertex.adjacencies().size();
+        }
+
+        var neighbours = new int[offsets[vertices.size()]];
+        var position = 0;
+        for (var vertex : vertices) {
+            for (var adjacency : vertex.adjacencies()) {
+                var index = indices.get(adjacency);
+                if (index == null) {
+                    throw new IllegalArgumentException("Vertex " + vertex.id() + " is adjacent to vertex " + adjacency.id() + " which is not part of the graph.");
+                }
+                neighbours[position++] = index;
+            }
+        }
+        return new Topology(offsets, neighbours, ids);
+    }
+
+    /**
+     * @return amount of vertices
+     */
+    public int size() {
+        return ids.limit();
+    }
+
+    /**
+     * @return amount of edges, assuming every edge is stored for both of its endpoints
+     */
+    public int edgeCount() {
+        return neighbours.limit() / 2;
+    }
+
+    public int degree(int vertex) {
+        return offsets.get(vertex + 1) - offsets.get(vertex);
+    }
+
+    /**
+     * @return highest degree of all vertices
+     */
+    public int maxDegree() {
+        var maxDegree = 0;
+        for (var vertex = 0; vertex < size(); vertex++) {
+            maxDegree = Math.max(maxDegree, degree(vertex));
+        }
+        return maxDegree;
+    }
+
+    /**
+     * @param vertex dense index of the vertex
+     * @return position of the vertex's first neighbour in the neighbour array
+     */
+    public int start(int vertex) {
+        return offsets.get(vertex);
+    }
+
+    /**
+     * @param vertex dense index of the vertex
+     * @return position after the vertex's last neighbour in the neighbour array
+     */
+    public int end(int vertex) {
+        return offsets.get(vertex + 1);
+    }
+
+    /**
+     * @param position position in the neighbour array, between {@link #start(int)} and {@link #end(int)} of a vertex
+     * @return dense index of the neighbour at this position
+     */
+    public int neighbour(int position) {
+        return neighbours.get(position);
+    }
+
+    /**
+     * @param vertex dense index of the vertex
+     * @return ID of the vertex
+     */
+    public int id(int vertex) {
+        return ids.get(vertex);
+    }
+
+    /**
+     * @param id ID of a vertex
+     * @return dense index of the vertex with this ID or -1 if there is no such vertex
+     */
+    public int indexOf(int id) {
+        var low = 0;
+        var high = sortedIds.limit() - 1;
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            var middleId = sortedIds.get(middle);
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return sortedIndices.get(middle);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return whether at least two vertices have the same ID
+     */
+    public boolean hasDuplicateIds() {
+        for (var i = 1; i < sortedIds.limit(); i++) {
+            if (sortedIds.get(i - 1) == sortedIds.get(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return read-only views of the offsets, neighbours, IDs, sorted IDs and their dense indices, in this order
+     */
+    IntBuffer[] tables() {
+        return new IntBuffer[]{offsets.asReadOnlyBuffer(), neighbours.asReadOnlyBuffer(), ids.asReadOnlyBuffer(),
+                sortedIds.asReadOnlyBuffer(), sortedIndices.asReadOnlyBuffer()};
+    }
+
+    /**
+     * @param first  dense index of the first vertex
+     * @param second dense index of the second vertex
+     * @return whether both vertices are connected by an edge
+     */
+    public boolean adjacent(int first, int second) {
+        for (var i = start(first); i < end(first); i++) {
+            if (neighbours.get(i) == second) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Chooses the adjacency backend by the density of the graph: if the average degree is at least the amount of 64-bit words of a bitset
+     * over all vertices, checking an adjacency bitset is cheaper than iterating the neighbours
+     *
+     * @return adjacency bitsets of this graph or null if the neighbour lists should be used
+     * @see DenseAdjacency
+     */
+    public DenseAdjacency dense() {
+        var dense = this.dense;
+        if (dense == null) {
+            dense = Optional.ofNullable(DenseAdjacency.of(this));
+            this.dense = dense;
+        }
+        return dense.orElse(null);
+    }
+}
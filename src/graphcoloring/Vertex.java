@@ -0,0 +1,141 @@
+package graphcoloring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Vertex {
+
+    public static final int NO_COLOR = -1;
+
+    private final int id;
+
+    private int color = NO_COLOR; // index of the color
+
+    private List<Vertex> adjacencies = new ArrayList<>();
+
+    public Vertex(int id) {
+        this.id = id;
+    }
+
+    private Vertex(Builder builder) {
+        this.id = builder.id;
+        this.color = builder.color;
+        this.adjacencies = builder.adjacencies;
+    }
+
+    public static Vertex of(int id, int color) {
+        return new Builder(id).color(color).build();
+    }
+
+    /**
+     * Determines all valid colors for this vertex which are not occupied by an adjacent vertex
+     *
+     * @param colors amount of available colors
+     * @return list of valid color indices
+     */
+    public List<Integer> determineValidColors(int colors) {
+        var validColors = new ArrayList<Integer>();
+        // collects all valid colors for this vertex
+        for (var color = 0; color < colors; color++) {
+            if (canBeColoredWith(color)) {
+                validColors.add(color);
+            }
+        }
+        return validColors;
+    }
+
+    /**
+     * Determines the first valid color which is not occupied by an adjacent vertex
+     *
+     * @param colors amount of available colors
+     * @return first valid color index
+     * @see Vertex#determineValidColors(int)
+     */
+    public int determineFirstValidColor(int colors) {
+        for (var color = 0; color < colors; color++) {
+            if (canBeColoredWith(color)) {
+                return color;
+            }
+        }
+        return NO_COLOR; // if there are no valid colors, return NO_COLOR
+    }
+
+    /**
+     * Checks every adjacent vertex whether this color is already occupied
+     *
+     * @param color color index to check
+     * @return whether this color can be used to color this vertex
+     */
+    public boolean canBeColoredWith(int color) {
+        for (var adjacency : adjacencies) {
+            if (adjacency.color() == color) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void resetVertex() {
+        color = NO_COLOR;
+    }
+
+    /**
+     * Used in order to control a result
+     */
+    public void printInformation() {
+        System.out.printf("Vertex %d: %s%n", id(), Color.displayName(color()));
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public int color() {
+        return color;
+    }
+
+    public void color(int color) {
+        this.color = color;
+    }
+
+    public List<Vertex> adjacencies() {
+        return adjacencies;
+    }
+
+    public void adjacencies(List<Vertex> adjacencies) {
+        this.adjacencies = adjacencies;
+    }
+
+    public void adjacencies(Vertex... adjacencies) {
+        this.adjacencies.addAll(List.of(adjacencies));
+    }
+
+    /**
+     * Builder class for {@link Vertex}
+     */
+    public static class Builder {
+
+        private final int id;
+
+        private int color = NO_COLOR;
+        private List<Vertex> adjacencies = new ArrayList<>();
+
+        public Builder(int id) {
+            this.id = id;
+        }
+
+        public Vertex build() {
+            return new Vertex(this);
+        }
+
+        public Builder color(int color) {
+            this.color = color;
+            return this;
+        }
+
+        public Builder adjacencies(List<Vertex> adjacencies) {
+            this.adjacencies = adjacencies;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package graphcoloring;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates chromosomes of the initial population from heuristic colorings instead of uniformly random colors, so the genetic algorithm does not
+ * spend its first generations on removing the conflicts of random colorings.<br>
+ * Each heuristic colors as many vertices as possible with the available colors and is randomized, so the seeded chromosomes differ from each
+ * other. The vertices which the heuristic cannot color within the available colors afterwards get the color which the fewest of their adjacencies
+ * use, with random ties. The population is configured with the arguments "seeding" ({@link Strategy}, default {@link Strategy#RANDOM}) and
+ * "seedingPercentage" (Double, default 0.5), the share of the initial population which is seeded, while the remaining chromosomes stay random
+ * to keep the population diverse.<br>
+ * An instance can be used by several threads at the same time
+ */
+public final class WarmStart {
+
+    private static final int NONE = -1;
+
+    // states of the vertices while a class of the RLF algorithm is built
+    private static final byte COLORED = 0;
+    private static final byte CANDIDATE = 1; // uncolored and not adjacent to the class
+    private static final byte EXCLUDED = 2; // uncolored and adjacent to the class
+
+    private final Topology topology;
+    private final int colors;
+    private final Strategy strategy;
+    private final int[] dsatur; // coloring shared by all chromosomes of the DSatur strategy
+
+    /**
+     * @param topology topology of the graph
+     * @param colors   amount of available colors
+     * @param strategy heuristic of the chromosomes
+     */
+    public WarmStart(Topology topology, int colors, Strategy strategy) {
+        this.topology = topology;
+        this.colors = colors;
+        this.strategy = strategy;
+        this.dsatur = strategy == Strategy.DSATUR ? DSatur.color(topology) : null;
+    }
+
+    /**
+     * @param random random number generator used only by this chromosome
+     * @return chromosome with the coloring of the heuristic
+     */
+    public Chromosome chromosome(RandomGenerator random) {
+        if (strategy == Strategy.RANDOM) {
+            return new Chromosome(topology, colors, random);
+        }
+        var coloring = new int[topology.size()];
+        Arrays.fill(coloring, Vertex.NO_COLOR);
+        switch (strategy) {
+            case GREEDY -> greedy(coloring, random);
+            case DSATUR -> permutedDSatur(coloring, random);
+            case RLF -> recursiveLargestFirst(coloring, random);
+            default -> throw new IllegalStateException();
+        }
+        var genes = new short[coloring.length];
+        var counts = new int[colors];
+        for (var vertex = 0; vertex < coloring.length; vertex++) {
+            if (coloring[vertex] == Vertex.NO_COLOR) {
+                coloring[vertex] = leastConflictingColor(vertex, coloring, counts, random);
+            }
+            genes[vertex] = (short) coloring[vertex];
+        }
+        return Chromosome.of(topology, colors, genes);
+    }
+
+    /**
+     * First-fit greedy coloring in a random order of the vertices
+     */
+    private void greedy(int[] coloring, RandomGenerator random) {
+        for (var vertex : shuffledVertices(random)) {
+            var color = GreedyColoring.firstFreeColor(topology, vertex, coloring);
+            if (color < colors) {
+                coloring[vertex] = color;
+            }
+        }
+    }
+
+    /**
+     * DSatur coloring whose classes are randomly renumbered, so the classes which exceed the available colors differ between the chromosomes
+     */
+    private void permutedDSatur(int[] coloring, RandomGenerator random) {
+        var permutation = shuffled(GraphColoring.countColors(dsatur), random);
+        for (var vertex = 0; vertex < coloring.length; vertex++) {
+            var color = permutation[dsatur[vertex]];
+            if (color < colors) {
+                coloring[vertex] = color;
+            }
+        }
+    }
+
+    /**
+     * Recursive largest first (RLF) coloring, which builds one color class after another: each class starts with the uncolored vertex with the
+     * most uncolored adjacencies and then repeatedly adds the candidate with the most adjacencies which are excluded from the class, so the
+     * class leaves as few edges as possible among the remaining vertices.<br>
+     * The candidates are kept in one doubly linked list per amount of excluded adjacencies, so a class is built in O(|V| + |E|). Ties are broken
+     * by a random order in which the candidates enter the lists
+     */
+    private void recursiveLargestFirst(int[] coloring, RandomGenerator random) {
+        var size = topology.size();
+        var states = new byte[size];
+        var uncoloredDegrees = new int[size];
+        var excludedAdjacencies = new int[size];
+        var bucketHeads = new int[topology.maxDegree() + 1];
+        var next = new int[size];
+        var previous = new int[size];
+        for (var vertex = 0; vertex < size; vertex++) {
+            uncoloredDegrees[vertex] = topology.degree(vertex);
+        }
+        var order = shuffledVertices(random);
+        var uncolored = size;
+        for (var color = 0; color < colors && uncolored > 0; color++) {
+            Arrays.fill(bucketHeads, NONE);
+            var first = NONE;
+            for (var vertex : order) {
+                if (coloring[vertex] == Vertex.NO_COLOR) { // the excluded vertices of the previous class become candidates again
+                    states[vertex] = CANDIDATE;
+                    excludedAdjacencies[vertex] = 0;
+                    insert(vertex, 0, bucketHeads, next, previous);
+                    if (first == NONE || uncoloredDegrees[vertex] > uncoloredDegrees[first]) {
+                        first = vertex;
+                    }
+                }
+            }
+            var maxBucket = 0;
+            var vertex = first;
+            while (vertex != NONE) {
+                remove(vertex, excludedAdjacencies[vertex], bucketHeads, next, previous);
+                states[vertex] = COLORED;
+                coloring[vertex] = color;
+                uncolored--;
+                for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+                    var adjacency = topology.neighbour(i);
+                    uncoloredDegrees[adjacency]--;
+                    if (states[adjacency] != CANDIDATE) {
+                        continue;
+                    }
+                    // the adjacency cannot join the class anymore, so its candidate adjacencies gain an excluded adjacency
+                    remove(adjacency, excludedAdjacencies[adjacency], bucketHeads, next, previous);
+                    states[adjacency] = EXCLUDED;
+                    for (var j = topology.start(adjacency); j < topology.end(adjacency); j++) {
+                        var candidate = topology.neighbour(j);
+                        if (states[candidate] == CANDIDATE) {
+                            remove(candidate, excludedAdjacencies[candidate], bucketHeads, next, previous);
+                            insert(candidate, ++excludedAdjacencies[candidate], bucketHeads, next, previous);
+                            maxBucket = Math.max(maxBucket, excludedAdjacencies[candidate]);
+                        }
+                    }
+                }
+                while (maxBucket > 0 && bucketHeads[maxBucket] == NONE) {
+                    maxBucket--;
+                }
+                vertex = bucketHeads[maxBucket];
+            }
+        }
+    }
+
+    private static void insert(int vertex, int bucket, int[] bucketHeads, int[] next, int[] previous) {
+        previous[vertex] = NONE;
+        next[vertex] = bucketHeads[bucket];
+        if (bucketHeads[bucket] != NONE) {
+            previous[bucketHeads[bucket]] = vertex;
+        }
+        bucketHeads[bucket] = vertex;
+    }
+
+    private static void remove(int vertex, int bucket, int[] bucketHeads, int[] next, int[] previous) {
+        if (previous[vertex] != NONE) {
+            next[previous[vertex]] = next[vertex];
+        } else {
+            bucketHeads[bucket] = next[vertex];
+        }
+        if (next[vertex] != NONE) {
+            previous[next[vertex]] = previous[vertex];
+        }
+    }
+
+    /**
+     * @param counts zeroed array with one element per color, which is zeroed again afterwards
+     * @return color which the fewest colored adjacencies of the vertex use, a random one of them if there are several
+     */
+    private int leastConflictingColor(int vertex, int[] coloring, int[] counts, RandomGenerator random) {
+        for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+            var color = coloring[topology.neighbour(i)];
+            if (color != Vertex.NO_COLOR) {
+                counts[color]++;
+            }
+        }
+        var best = 0;
+        var ties = 0;
+        for (var color = 0; color < colors; color++) {
+            if (color == 0 || counts[color] < counts[best]) {
+                best = color;
+                ties = 1;
+            } else if (counts[color] == counts[best] && random.nextInt(++ties) == 0) {
+                best = color; // reservoir sampling, so each of the tied colors is chosen with the same probability
+            }
+        }
+        for (var i = topology.start(vertex); i < topology.end(vertex); i++) {
+            var color = coloring[topology.neighbour(i)];
+            if (color != Vertex.NO_COLOR) {
+                counts[color] = 0;
+            }
+        }
+        return best;
+    }
+
+    private int[] shuffledVertices(RandomGenerator random) {
+        return shuffled(topology.size(), random);
+    }
+
+    /**
+     * @return random permutation of the numbers below the amount (Fisher-Yates shuffle)
+     */
+    private static int[] shuffled(int amount, RandomGenerator random) {
+        var permutation = new int[amount];
+        for (var i = 0; i < amount; i++) {
+            var j = random.nextInt(i + 1);
+            permutation[i] = permutation[j];
+            permutation[j] = i;
+        }
+        return permutation;
+    }
+
+    /**
+     * Heuristic from which the seeded chromosomes are created
+     */
+    public enum Strategy {
+        RANDOM, // uniformly random colors, as without seeding
+        GREEDY, // first-fit greedy coloring in a random order
+        DSATUR, // DSatur coloring with randomly renumbered classes
+        RLF // recursive largest first coloring with random ties
+    }
+}
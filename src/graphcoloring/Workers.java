@@ -0,0 +1,55 @@
+package graphcoloring;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Executes independent tasks, e.g. the creation of the children of a generation, either on the calling thread or in parallel
+ * on a dedicated fork-join pool with the configured parallelism level
+ */
+public final class Workers implements AutoCloseable {
+
+    private final int parallelism;
+    private final ForkJoinPool pool; // null if the tasks are executed on the calling thread
+
+    /**
+     * @param parallelism maximum amount of threads executing tasks at the same time, 1 executes all tasks on the calling thread
+     */
+    public Workers(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1.");
+        }
+        this.parallelism = parallelism;
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    /**
+     * Executes the task for every index from 0 to amount - 1 and waits until all of them are finished.<br>
+     * The order in which the indices are processed is not defined, so each task must only depend on its own index
+     *
+     * @param amount amount of tasks
+     * @param task   task which receives the index
+     */
+    public void forEach(int amount, IntConsumer task) {
+        if (pool == null) {
+            for (var i = 0; i < amount; i++) {
+                task.accept(i);
+            }
+            return;
+        }
+        // a parallel stream started from inside a fork-join pool uses this pool instead of the common pool
+        pool.submit(() -> IntStream.range(0, amount).parallel().forEach(task)).join();
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+}
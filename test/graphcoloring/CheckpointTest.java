@@ -0,0 +1,111 @@
+package graphcoloring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A run which is interrupted and resumed from its checkpoint must return exactly the result of the uninterrupted run with the same seed
+ */
+class CheckpointTest {
+
+    private static final int GENERATIONS = 200;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * @return random graph with the edges of the given probability
+     */
+    private static Topology random(int size, double probability, Random random) {
+        var adjacencies = new ArrayList<List<Integer>>();
+        for (var vertex = 0; vertex < size; vertex++) {
+            adjacencies.add(new ArrayList<>());
+        }
+        for (var first = 0; first < size; first++) {
+            for (var second = first + 1; second < size; second++) {
+                if (random.nextDouble() < probability) {
+                    adjacencies.get(first).add(second);
+                    adjacencies.get(second).add(first);
+                }
+            }
+        }
+        var offsets = new int[size + 1];
+        var neighbours = new ArrayList<Integer>();
+        var ids = new int[size];
+        for (var vertex = 0; vertex < size; vertex++) {
+            ids[vertex] = vertex;
+            offsets[vertex + 1] = offsets[vertex] + adjacencies.get(vertex).size();
+            neighbours.addAll(adjacencies.get(vertex));
+        }
+        return new Topology(offsets, neighbours.stream().mapToInt(Integer::intValue).toArray(), ids);
+    }
+
+    /**
+     * @param selection share of each generation which is selected, below 1 the population shrinks until the run stops
+     */
+    private Map<String, Object> arguments(int generations, String selection, boolean checkpoint, boolean resume) {
+        var options = new HashMap<String, String>();
+        options.put("seed", "42");
+        options.put("crossover", "gpx");
+        if (checkpoint) {
+            options.put("checkpoint", directory.toString());
+            options.put("checkpointInterval", "7");
+            options.put("resume", String.valueOf(resume));
+        }
+        return GraphColoring.geneticArguments(List.of(String.valueOf(generations), "40", selection, "0.1", "0.2", "0.05", "1"), options);
+    }
+
+    /**
+     * The colors are too few for a valid coloring and the population keeps its size, so no run stops before its last generation
+     */
+    private void assertResumedRunMatches(Topology topology, int colors) {
+        var graph = new Graph(topology);
+        var uninterrupted = graph.geneticAlgorithm(arguments(GENERATIONS, "1", false, false), colors, Termination.none());
+        assertEquals(GENERATIONS - 1, uninterrupted.generations());
+        var interrupted = graph.geneticAlgorithm(arguments(GENERATIONS / 2, "1", true, false), colors, Termination.none());
+        assertEquals(GENERATIONS / 2 - 1, interrupted.generations());
+        var resumed = graph.geneticAlgorithm(arguments(GENERATIONS, "1", true, true), colors, Termination.none());
+
+        assertEquals(uninterrupted.reason(), resumed.reason());
+        assertEquals(uninterrupted.generations(), resumed.generations());
+        assertEquals(uninterrupted.best().conflicts(), resumed.best().conflicts());
+        assertArrayEquals(uninterrupted.best().genes(), resumed.best().genes());
+    }
+
+    @Test
+    void resumesSparseRunWithTheSameResult() {
+        var topology = random(1000, 0.006, new Random(1));
+        assertNull(topology.dense());
+        assertResumedRunMatches(topology, 3);
+    }
+
+    @Test
+    void resumesDenseRunWithTheSameResult() {
+        var topology = random(150, 0.5, new Random(2));
+        assertNotNull(topology.dense());
+        assertResumedRunMatches(topology, 10);
+    }
+
+    @Test
+    void resumesStoppedRunWithoutFurtherGenerations() {
+        var graph = new Graph(random(150, 0.5, new Random(3)));
+        var stopped = graph.geneticAlgorithm(arguments(GENERATIONS, "0.5", true, false), 10, Termination.none());
+        assertTrue(stopped.generations() < GENERATIONS - 1); // the population has shrunk to one chromosome
+        var resumed = graph.geneticAlgorithm(arguments(GENERATIONS, "0.5", true, true), 10, Termination.none());
+        assertEquals(stopped.generations(), resumed.generations());
+        assertArrayEquals(stopped.best().genes(), resumed.best().genes());
+    }
+}
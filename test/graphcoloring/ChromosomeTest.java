@@ -0,0 +1,20 @@
+package graphcoloring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChromosomeTest {
+
+    private final Topology topology = new Topology(new int[]{0, 1, 2}, new int[]{1, 0}, new int[]{1, 2});
+
+    @Test
+    void rejectsMoreColorsThanTheGenesCanStore() {
+        assertThrows(IllegalArgumentException.class, () -> new Chromosome(topology, Chromosome.MAX_COLORS + 1, new Random(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Graph(topology).geneticAlgorithm(new HashMap<>(), Chromosome.MAX_COLORS + 1, Termination.none()));
+    }
+}
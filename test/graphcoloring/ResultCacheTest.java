@@ -0,0 +1,93 @@
+package graphcoloring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A repeated search for the minimum amount of colors of the genetic algorithm returns the cached coloring instead of trying the amount of
+ * colors again with which the same settings have already failed
+ */
+class ResultCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private final Topology topology = random(60, 0.5, new Random(1));
+    private final AtomicInteger generations = new AtomicInteger();
+
+    private static Topology random(int size, double probability, Random random) {
+        var adjacencies = new ArrayList<List<Integer>>();
+        for (var vertex = 0; vertex < size; vertex++) {
+            adjacencies.add(new ArrayList<>());
+        }
+        for (var first = 0; first < size; first++) {
+            for (var second = first + 1; second < size; second++) {
+                if (random.nextDouble() < probability) {
+                    adjacencies.get(first).add(second);
+                    adjacencies.get(second).add(first);
+                }
+            }
+        }
+        var offsets = new int[size + 1];
+        var neighbours = new ArrayList<Integer>();
+        var ids = new int[size];
+        for (var vertex = 0; vertex < size; vertex++) {
+            ids[vertex] = vertex;
+            offsets[vertex + 1] = offsets[vertex] + adjacencies.get(vertex).size();
+            neighbours.addAll(adjacencies.get(vertex));
+        }
+        return new Topology(offsets, neighbours.stream().mapToInt(Integer::intValue).toArray(), ids);
+    }
+
+    /**
+     * @return arguments of a short search, which fails long before it reaches the clique bound, with a cache of the directory
+     */
+    private Map<String, Object> arguments(String seed) throws IOException {
+        var args = GraphColoring.geneticArguments(List.of("20", "20", "1", "0.1", "0.2", "0.05", "1"), new HashMap<>(Map.of("seed", seed)));
+        args.put("resultCache", new ResultCache(1 << 20, directory)); // a new cache reads the failures from the files of the previous one
+        args.put("generationListener", (GenerationListener) metrics -> generations.incrementAndGet());
+        return args;
+    }
+
+    @Test
+    void repeatedSearchReturnsTheCachedColoring() throws IOException {
+        var first = arguments("1");
+        var coloring = GraphColoring.minimumGeneticColoring(new Graph(topology), first);
+        assertTrue(Graph.validate(topology, coloring));
+        assertTrue(generations.get() > 0);
+        var hash = ResultCache.hash(topology);
+        assertEquals(GraphColoring.countColors(coloring) - 1,
+                ((ResultCache) first.get("resultCache")).failedColors(hash, GraphColoring.geneticSettings(first)));
+
+        var searched = generations.get();
+        assertArrayEquals(coloring, GraphColoring.minimumGeneticColoring(new Graph(topology), arguments("1")));
+        assertEquals(searched, generations.get()); // the genetic algorithm has not run again
+
+        GraphColoring.minimumGeneticColoring(new Graph(topology), arguments("2"));
+        assertTrue(generations.get() > searched); // other settings might succeed where the first ones have failed
+    }
+
+    @Test
+    void cancelledSearchDoesNotStoreItsFailure() throws IOException {
+        var args = arguments("1");
+        var cancellation = new AtomicBoolean(true);
+        args.put("cancellation", cancellation);
+        var coloring = GraphColoring.minimumGeneticColoring(new Graph(topology), args);
+        assertTrue(Graph.validate(topology, coloring));
+        assertEquals(0, ((ResultCache) args.get("resultCache")).failedColors(ResultCache.hash(topology), GraphColoring.geneticSettings(args)));
+    }
+}
@@ -0,0 +1,186 @@
+package graphcoloring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a {@link SolverService} through a {@link SolverClient} over a socket of the loopback interface
+ */
+@Timeout(60) // a job whose algorithm is not cancelled at its deadline would run for hours
+class SolverServiceTest {
+
+    private static final Pattern MILLIS = Pattern.compile("millis=(\\d+)");
+
+    // Mycielski graph with 11 vertices, whose chromatic number is 4
+    private static final String MYCIEL3 = """
+            c myciel3
+            p edge 11 20
+            e 1 2
+            e 1 4
+            e 1 7
+            e 1 9
+            e 2 3
+            e 2 6
+            e 2 8
+            e 3 5
+            e 3 7
+            e 3 10
+            e 4 5
+            e 4 6
+            e 4 10
+            e 5 8
+            e 5 9
+            e 6 11
+            e 7 11
+            e 8 11
+            e 9 11
+            e 10 11
+            """;
+
+    @TempDir
+    Path directory;
+
+    private Path small;
+    private Path hard; // random graph whose Tabucol search with a few colors less than DSatur does not finish within seconds
+    private SolverService service;
+    private ServerSocket server;
+    private Thread listener;
+
+    @BeforeEach
+    void writeGraphs() throws IOException {
+        small = Files.writeString(directory.resolve("myciel3.col"), MYCIEL3);
+        var random = new Random(1);
+        var edges = new StringBuilder();
+        for (var first = 0; first < 150; first++) {
+            for (var second = first + 1; second < 150; second++) {
+                if (random.nextBoolean()) {
+                    edges.append(first).append(' ').append(second).append('\n');
+                }
+            }
+        }
+        hard = Files.writeString(directory.resolve("hard.txt"), edges);
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        if (server != null) {
+            server.close();
+            listener.join();
+            service.close();
+        }
+    }
+
+    private void start(int workers, int maxPendingJobs) throws IOException {
+        service = new SolverService(workers, maxPendingJobs, null);
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        listener = new Thread(() -> {
+            try {
+                service.listen(server);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        listener.start();
+    }
+
+    /**
+     * @return results of the jobs in the order in which they have arrived
+     */
+    private List<String> submit(String... jobs) throws IOException {
+        try (var client = new SolverClient(server.getLocalPort())) {
+            for (var job : jobs) {
+                client.submit(job);
+            }
+            client.finish();
+            var results = new ArrayList<String>();
+            String result;
+            while ((result = client.receive()) != null) {
+                results.add(result);
+            }
+            return results;
+        }
+    }
+
+    private static long millis(String result) {
+        var matcher = MILLIS.matcher(result);
+        assertTrue(matcher.find(), result);
+        return Long.parseLong(matcher.group(1));
+    }
+
+    @Test
+    void answersEachJobWithOneResultLine() throws IOException {
+        start(2, 4);
+        var results = submit("a graph=" + small + " algorithm=exact coloring=true", "# comment", "", "b graph=" + directory.resolve("missing.col"),
+                "c graph=" + small + " algorithm=unknown", "d algorithm=dsatur");
+        assertEquals(4, results.size(), results.toString());
+        var byId = new HashMap<String, String>();
+        for (var result : results) {
+            byId.put(result.substring(0, result.indexOf(' ')), result);
+        }
+
+        var ok = byId.get("a");
+        assertTrue(ok.matches("a OK colors=4 millis=\\d+ coloring=\\S+"), ok);
+        var colors = new HashMap<Integer, Integer>();
+        for (var entry : ok.substring(ok.indexOf("coloring=") + "coloring=".length()).split(",")) {
+            var parts = entry.split(":");
+            colors.put(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        }
+        assertEquals(11, colors.size());
+        for (var line : MYCIEL3.lines().filter(line -> line.startsWith("e ")).toList()) {
+            var edge = line.split(" ");
+            assertTrue(!colors.get(Integer.parseInt(edge[1])).equals(colors.get(Integer.parseInt(edge[2]))), line);
+        }
+
+        assertTrue(byId.get("b").startsWith("b ERROR The graph cannot be read"), byId.get("b"));
+        assertEquals("c ERROR Unknown algorithm \"unknown\".", byId.get("c"));
+        assertEquals("d ERROR The job does not name a graph.", byId.get("d"));
+    }
+
+    @Test
+    void cancelsTheAlgorithmAtTheDeadline() throws IOException {
+        // with a single worker and admission, the second job only runs if the first algorithm has really stopped
+        start(1, 1);
+        var results = submit("slow graph=" + hard + " algorithm=tabucol tabuIterations=2000000000 seed=1 deadlineMillis=300",
+                "fast graph=" + small + " algorithm=exact");
+        assertEquals(2, results.size(), results.toString());
+        assertTrue(results.get(0).matches("slow DEADLINE millis=\\d+"), results.get(0));
+        var millis = millis(results.get(0));
+        assertTrue(millis >= 300 && millis < 2_000, results.get(0));
+        assertTrue(results.get(1).matches("fast OK colors=4 millis=\\d+"), results.get(1));
+    }
+
+    @Test
+    void acceptsAtMostTheMaximumAmountOfPendingJobs() throws IOException {
+        // there are enough workers for all jobs, so they only run one after another if the service does not read them earlier
+        start(3, 1);
+        var start = System.nanoTime();
+        var results = submit("1 graph=" + hard + " algorithm=tabucol tabuIterations=2000000000 deadlineMillis=200",
+                "2 graph=" + hard + " algorithm=tabucol tabuIterations=2000000000 deadlineMillis=200",
+                "3 graph=" + hard + " algorithm=tabucol tabuIterations=2000000000 deadlineMillis=200");
+        var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(3, results.size(), results.toString());
+        for (var i = 0; i < results.size(); i++) {
+            assertTrue(results.get(i).startsWith((i + 1) + " DEADLINE"), results.toString());
+            assertTrue(millis(results.get(i)) < 2_000, results.get(i)); // measured from the moment the job has been read
+        }
+        assertTrue(elapsedMillis >= 3 * 200, "elapsed " + elapsedMillis + " ms");
+    }
+}